@@ -0,0 +1,222 @@
+package optix;
+
+import optix.commands.Command;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pipeline that applies every command changing the shows on a single writer thread, in the order they were submitted.
+ * Commands are placed in a ring buffer of slots that is allocated once, so submitting a command allocates nothing
+ * but the future of its result, and the writer never takes a lock to find its next command.
+ * The writer applies all the commands waiting in the buffer as one batch and writes the save file once at the end
+ * of the batch, before completing the futures, so a result is only handed out once its change has been saved.
+ * The writer and the submitters waiting for room in a full buffer park until they are woken, so an idle pipeline
+ * uses no CPU.
+ */
+public class MutationPipeline implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int IDLE_SPINS = 100;
+    private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+
+    private final Model model;
+    private final Storage storage;
+    private final Slot[] slots;
+    private final int mask;
+    private final Thread writer;
+
+    // sequence number of the next command to be submitted.
+    private final AtomicLong nextSequence = new AtomicLong();
+    // sequence number of the last command whose result has been handed out. Its slot and all before it may be reused.
+    private volatile long completedSequence = -1;
+    private volatile boolean isRunning = true;
+    private volatile boolean isWriterParked;
+    // submitters waiting for the writer to make room in a full buffer.
+    private final Queue<Thread> waitingSubmitters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Start a pipeline over the given Model.
+     *
+     * @param model    The Model the commands change.
+     * @param storage  The storage the save file is written to.
+     * @param capacity The number of commands that may wait in the pipeline. Rounded up to a power of two.
+     */
+    public MutationPipeline(Model model, Storage storage, int capacity) {
+        this.model = model;
+        this.storage = storage;
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.writer = new Thread(this::write, "optix-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Submit a command to be applied by the writer. When the pipeline is full, waits until the writer has made room.
+     *
+     * @param command The command.
+     * @param ui      The ui the command sets its response on. Must not be shared with commands that run elsewhere.
+     * @return the result of the command, completed once the command has been applied and saved.
+     *         The result is completed on the writer, so actions on it must not wait for other commands in the pipeline.
+     */
+    public CompletableFuture<Optix.Result> submit(Command command, Ui ui) {
+        CompletableFuture<Optix.Result> result = new CompletableFuture<>();
+        if (!isRunning) {
+            result.completeExceptionally(new IllegalStateException("The pipeline has been closed."));
+            return result;
+        }
+        long sequence = nextSequence.getAndIncrement();
+        if (sequence - completedSequence > slots.length) {
+            awaitRoom(sequence);
+        }
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.command = command;
+        slot.ui = ui;
+        slot.result = result;
+        slot.sequence = sequence;
+        if (isWriterParked) {
+            LockSupport.unpark(writer);
+        }
+        return result;
+    }
+
+    /**
+     * Wait until the writer has handed out enough results for the command with the given sequence number to have a slot.
+     */
+    private void awaitRoom(long sequence) {
+        Thread submitter = Thread.currentThread();
+        waitingSubmitters.add(submitter);
+        try {
+            while (sequence - completedSequence > slots.length) {
+                LockSupport.park(this);
+            }
+        } finally {
+            waitingSubmitters.remove(submitter);
+        }
+    }
+
+    /**
+     * Apply the commands in the buffer in batches until the pipeline is closed and every submitted command is applied.
+     */
+    private void write() {
+        long next = 0;
+        int idleRounds = 0;
+        while (isRunning || next < nextSequence.get()) {
+            long batchEnd = next;
+            if (slots[(int) (batchEnd & mask)].sequence == batchEnd) {
+                storage.beginBatch();
+                // a batch never laps the buffer, so the slots of the batch are not reused before it completes.
+                while (batchEnd - next < slots.length && slots[(int) (batchEnd & mask)].sequence == batchEnd) {
+                    slots[(int) (batchEnd & mask)].apply();
+                    batchEnd++;
+                }
+                Throwable saveError = endBatch();
+                for (long sequence = next; sequence < batchEnd; sequence++) {
+                    slots[(int) (sequence & mask)].complete(saveError);
+                }
+                completedSequence = batchEnd - 1;
+                for (Thread submitter : waitingSubmitters) {
+                    LockSupport.unpark(submitter);
+                }
+                next = batchEnd;
+                idleRounds = 0;
+            } else if (idleRounds < IDLE_SPINS) {
+                idleRounds++;
+                Thread.onSpinWait();
+            } else {
+                isWriterParked = true;
+                // submit and close unpark the writer after seeing the flag, so re-check before parking.
+                if (slots[(int) (next & mask)].sequence != next && isRunning) {
+                    LockSupport.park(this);
+                }
+                isWriterParked = false;
+            }
+        }
+    }
+
+    /**
+     * Write the save file at the end of a batch. Failures are handed to the commands of the batch
+     * instead of stopping the writer.
+     *
+     * @return the failure, or null if the save file has been written.
+     */
+    private Throwable endBatch() {
+        try {
+            storage.endBatch();
+            return null;
+        } catch (Throwable e) {
+            OPTIXLOGGER.log(Level.SEVERE, "error saving batch of commands", e);
+            return e;
+        }
+    }
+
+    /**
+     * Stop taking commands. Commands already submitted are still applied and saved.
+     */
+    @Override
+    public void close() {
+        isRunning = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A place in the ring buffer for one command and its result. Reused for every command that lands on it.
+     */
+    private class Slot {
+        // sequence number of the command in the slot, written last when the command is submitted.
+        private volatile long sequence = -1;
+        private Command command;
+        private Ui ui;
+        private CompletableFuture<Optix.Result> result;
+        private String taskType;
+        private String message;
+        private Throwable error;
+
+        /**
+         * Apply the command. Anything thrown, even an Error, fails only this command and never stops the writer.
+         */
+        private void apply() {
+            try {
+                taskType = command.execute(model, ui, storage);
+                message = ui.getMessage();
+            } catch (Throwable e) {
+                OPTIXLOGGER.log(Level.WARNING, "error applying command", e);
+                error = e;
+            }
+        }
+
+        private void complete(Throwable saveError) {
+            CompletableFuture<Optix.Result> completed = result;
+            if (error != null || saveError != null) {
+                completed.completeExceptionally(error != null ? error : saveError);
+            } else {
+                completed.complete(new Optix.Result(taskType, message));
+            }
+            command = null;
+            ui = null;
+            result = null;
+            taskType = null;
+            message = null;
+            error = null;
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package optix;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.commons.model.ShowMap;
+import optix.commons.model.ShowSnapshot;
 import optix.exceptions.OptixException;
 import optix.ui.Ui;
 import optix.util.Parser;
 
 import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
  * Software that stores all the finance for the Opera Hall.
  */
 public class Optix {
+    private static final String MESSAGE_COMMAND_FAILED = "☹ OOPS!!! Something went wrong while running the command: %1$s\n";
+
     private Model model;
 
     private Ui ui;
@@ -23,6 +32,15 @@ public class Optix {
 
     private Parser parser;
 
+    private MutationPipeline pipeline;
+
+    // runs commands one at a time in the order they were entered, away from the thread that draws the window.
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "optix-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Set up the storage, ui, and list of shows.
      * Save data is loaded from storage.load()
@@ -35,10 +53,11 @@ public class Optix {
         storage = new Storage(filePath);
         model = new Model(storage);
         parser = new Parser(filePath);
+        pipeline = new MutationPipeline(model, storage, MutationPipeline.DEFAULT_CAPACITY);
     }
 
     /**
-     * Processes user input command.
+     * Processes user input command. Commands that change the shows are applied by the mutation pipeline.
      *
      * @param fullCommand User input command.
      * @return String for the type of Model that command deals with. E.g Show, Seat and Alias.
@@ -47,31 +66,135 @@ public class Optix {
         String taskType = "";
         try {
             Command c = parser.parse(fullCommand);
-            taskType = c.execute(model, ui, storage);
+            if (c instanceof MutatingCommand) {
+                taskType = pipeline.submit(c, ui).join().getTaskType();
+            } else {
+                taskType = c.execute(model, ui, storage);
+            }
         } catch (OptixException e) {
             ui.setMessage(e.getMessage());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            ui.setMessage(String.format(MESSAGE_COMMAND_FAILED, cause.getMessage()));
         }
         return taskType;
     }
 
+    /**
+     * Processes user input command and gets the response to it.
+     *
+     * @param fullCommand User input command.
+     * @return the type of Model that command deals with, the response to the command and the shows to display.
+     */
+    public synchronized Result runCommand(String fullCommand) {
+        String taskType = runGui(fullCommand);
+        if (taskType.equals("seat")) {
+            // seat maps are looked up in the schedule as it was when the command ran.
+            return new Result(taskType, ui.getMessage(), model.getShows().snapshot());
+        }
+        return new Result(taskType, ui.getMessage(), model.getShowsGui());
+    }
+
+    /**
+     * Processes user input command in the background. Commands are run one at a time in the order they are given,
+     * so the caller is free to keep drawing and reading input while a long command such as a save runs.
+     *
+     * @param fullCommand User input command.
+     * @return the result of the command, completed once the command has run.
+     */
+    public CompletableFuture<Result> runGuiAsync(String fullCommand) {
+        return CompletableFuture.supplyAsync(() -> runCommand(fullCommand), commandExecutor)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    return new Result("", String.format(MESSAGE_COMMAND_FAILED, cause.getMessage()));
+                });
+    }
+
+    /**
+     * Stop taking commands. Commands already given are still run and saved.
+     */
+    public void shutdown() {
+        commandExecutor.execute(pipeline::close);
+        commandExecutor.shutdown();
+    }
+
     public ShowMap getShows() {
         return model.getShows();
     }
 
-    public ShowMap getShowsGui() {
+    public ShowSnapshot getShowsGui() {
         return model.getShowsGui();
     }
 
-    public void resetShows() {
-        model.setShowsGui(model.getShows());
+    /**
+     * Show the whole schedule on the GUI once the commands already given have run.
+     *
+     * @return the shows to display, completed once the commands already given have run.
+     */
+    public CompletableFuture<ShowSnapshot> resetShows() {
+        return CompletableFuture.supplyAsync(() -> {
+            model.setShowsGui(model.getShows());
+            return model.getShowsGui();
+        }, commandExecutor);
+    }
+
+    /**
+     * Show the archive on the GUI once the commands already given have run.
+     *
+     * @return the shows to display, completed once the commands already given have run.
+     */
+    public CompletableFuture<ShowSnapshot> resetArchive() {
+        return CompletableFuture.supplyAsync(() -> {
+            model.setShowsGui(model.getShowsHistory());
+            return model.getShowsGui();
+        }, commandExecutor);
     }
 
-    public void resetArchive() {
-        model.setShowsGui(model.getShowsHistory());
+    public List<String> completeShowName(String prefix) {
+        return model.completeShowName(prefix);
     }
 
     public String getResponse() {
         return ui.getMessage();
     }
+
+    /**
+     * The outcome of a command: the type of Model it deals with, the response to show the user
+     * and the shows to display, as they were when the command finished.
+     */
+    public static class Result {
+        private final String taskType;
+        private final String message;
+        private final ShowSnapshot showsGui;
+
+        public Result(String taskType, String message) {
+            this(taskType, message, null);
+        }
+
+        /**
+         * The outcome of a command.
+         *
+         * @param taskType the type of Model the command deals with.
+         * @param message  the response to show the user.
+         * @param showsGui the shows to display, or null if there is nothing to display.
+         */
+        public Result(String taskType, String message, ShowSnapshot showsGui) {
+            this.taskType = taskType;
+            this.message = message;
+            this.showsGui = showsGui;
+        }
+
+        public String getTaskType() {
+            return taskType;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public ShowSnapshot getShowsGui() {
+            return showsGui;
+        }
+    }
 }
 
@@ -0,0 +1,327 @@
+package optix;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.exceptions.OptixException;
+import optix.ui.Ui;
+import optix.util.Parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Headless Optix server, so that many box-office clients on the same machine or network share one Model.
+ * Every line a client sends is one command in the same grammar as the GUI. The response to each command is sent back
+ * as its lines followed by a line holding only ".". Lines of a response that start with "." are sent with an extra ".".
+ * Clients may send several commands without waiting for the responses. The commands of one client are run and
+ * answered in the order they were sent, while the commands of different clients run side by side on the worker pool.
+ * Commands that change the shows are handed on to the mutation pipeline, which applies them on its single writer.
+ */
+public class OptixServer implements Closeable {
+    public static final int DEFAULT_PORT = 5050;
+
+    private static final String END_OF_RESPONSE = ".";
+    private static final String MESSAGE_COMMAND_FAILED = "☹ OOPS!!! Something went wrong while running the command.\n";
+    private static final String MESSAGE_LINE_TOO_LONG = "☹ OOPS!!! That command is too long.\n";
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+
+    private final Model model;
+    private final Storage storage;
+    private final Parser parser;
+    private final MutationPipeline pipeline;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ExecutorService workers;
+    private final Thread selectorThread;
+    // clients with responses waiting to be sent, handed from the workers to the selector thread.
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private volatile boolean isRunning = true;
+
+    /**
+     * Start a server over the given Model. The server listens until it is closed.
+     *
+     * @param model         The Model shared by every client.
+     * @param storage       The storage the save file is written to.
+     * @param parser        The parser for the commands of the clients.
+     * @param address       The address to listen on. Port 0 picks any free port.
+     * @param workerThreads The number of commands that may run at once.
+     * @throws IOException if the server cannot listen on the address.
+     */
+    public OptixServer(Model model, Storage storage, Parser parser, InetSocketAddress address, int workerThreads)
+            throws IOException {
+        this.model = model;
+        this.storage = storage;
+        this.parser = parser;
+        this.pipeline = new MutationPipeline(model, storage, MutationPipeline.DEFAULT_CAPACITY);
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "optix-server-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.selectorThread = new Thread(this::serve, "optix-server");
+        selectorThread.start();
+        OPTIXLOGGER.log(Level.INFO, "server listening on " + getAddress());
+    }
+
+    /**
+     * Run Optix as a headless server over the save file in the working directory.
+     *
+     * @param args optional port, number of worker threads and address to listen on.
+     *             The server listens on the loopback address unless another address is given, e.g. 0.0.0.0 for the LAN.
+     * @throws IOException if the server cannot listen on the address.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workerThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        InetAddress host = args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+
+        File currentDir = new File(System.getProperty("user.dir"));
+        File filePath = new File(currentDir.toString() + "\\src\\main\\data");
+        Storage storage = new Storage(filePath);
+        OptixServer server = new OptixServer(new Model(storage), storage, new Parser(filePath),
+                new InetSocketAddress(host, port), workerThreads);
+        System.out.println("Optix is serving on " + server.getAddress());
+    }
+
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Accept clients, read their commands and send back the responses until the server is closed.
+     * Only this thread touches the sockets; commands are handed to the workers.
+     */
+    private void serve() {
+        while (isRunning) {
+            try {
+                selector.select();
+                Connection connection;
+                while ((connection = pendingWrites.poll()) != null) {
+                    if (connection.key.isValid()) {
+                        connection.key.interestOps(connection.key.interestOps() | SelectionKey.OP_WRITE);
+                    }
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            } catch (IOException e) {
+                OPTIXLOGGER.log(Level.WARNING, "server error", e);
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            SocketChannel channel = serverChannel.accept();
+            if (channel != null) {
+                channel.configureBlocking(false);
+                SelectionKey clientKey = channel.register(selector, SelectionKey.OP_READ);
+                clientKey.attach(new Connection(clientKey));
+            }
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Run a command of a client and get its response, ready to be sent.
+     */
+    private CompletableFuture<String> runCommand(Connection connection, String fullCommand) {
+        CompletableFuture<Optix.Result> result;
+        try {
+            Command c = parser.parse(fullCommand);
+            if (c instanceof MutatingCommand) {
+                result = pipeline.submit(c, connection.ui);
+            } else {
+                String taskType = c.execute(model, connection.ui, storage);
+                result = CompletableFuture.completedFuture(new Optix.Result(taskType, connection.ui.getMessage()));
+            }
+        } catch (OptixException e) {
+            result = CompletableFuture.completedFuture(new Optix.Result("", e.getMessage()));
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((completed, e) -> {
+            if (e != null) {
+                OPTIXLOGGER.log(Level.WARNING, "error running command: " + fullCommand, e);
+                return frame(MESSAGE_COMMAND_FAILED);
+            }
+            if (completed.getTaskType().equals("bye")) {
+                connection.isClosing = true;
+            }
+            return frame(completed.getMessage());
+        });
+    }
+
+    /**
+     * Put a response in the form it is sent in: its lines, with an extra "." on lines starting with ".",
+     * followed by a line holding only ".".
+     */
+    static String frame(String response) {
+        StringBuilder framed = new StringBuilder();
+        for (String line : response.split("\n")) {
+            if (line.startsWith(END_OF_RESPONSE)) {
+                framed.append(END_OF_RESPONSE);
+            }
+            framed.append(line).append("\n");
+        }
+        return framed.append(END_OF_RESPONSE).append("\n").toString();
+    }
+
+    /**
+     * Stop taking clients and commands. Commands that are running are left to finish.
+     */
+    @Override
+    public void close() throws IOException {
+        isRunning = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pipeline.close();
+    }
+
+    /**
+     * A client of the server. Each client has its own Ui, so that responses of different clients never mix.
+     */
+    private class Connection {
+        private final SelectionKey key;
+        private final SocketChannel channel;
+        private final Ui ui = new Ui();
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        // bytes of the line that has not been fully received yet.
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private final Queue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+        // the last command of the client, which the next command waits for.
+        private CompletableFuture<Void> lastCommand = CompletableFuture.completedFuture(null);
+        private volatile boolean isClosing;
+
+        private Connection(SelectionKey key) {
+            this.key = key;
+            this.channel = (SocketChannel) key.channel();
+        }
+
+        private void read() throws IOException {
+            readBuffer.clear();
+            if (channel.read(readBuffer) == -1) {
+                close();
+                return;
+            }
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte b = readBuffer.get();
+                if (b != '\n') {
+                    partialLine.write(b);
+                } else {
+                    String line = partialLine.toString(StandardCharsets.UTF_8).replace("\r", "");
+                    partialLine.reset();
+                    if (!line.isBlank()) {
+                        submit(line);
+                    }
+                }
+            }
+            if (partialLine.size() > MAX_LINE_LENGTH) {
+                partialLine.reset();
+                isClosing = true;
+                send(frame(MESSAGE_LINE_TOO_LONG));
+            }
+        }
+
+        private void submit(String line) {
+            lastCommand = lastCommand.thenComposeAsync(previous -> runCommand(this, line), workers).thenAccept(this::send);
+        }
+
+        private void send(String response) {
+            responses.add(ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8)));
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        private void write() throws IOException {
+            ByteBuffer response;
+            while ((response = responses.peek()) != null) {
+                channel.write(response);
+                if (response.hasRemaining()) {
+                    return;
+                }
+                responses.poll();
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            if (isClosing) {
+                close();
+            }
+        }
+
+        private void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                OPTIXLOGGER.log(Level.WARNING, "error closing client", e);
+            }
+        }
+    }
+}
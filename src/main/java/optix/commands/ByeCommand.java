@@ -6,7 +6,7 @@ import optix.ui.Ui;
 
 import java.util.logging.Level;
 
-public class ByeCommand extends Command {
+public class ByeCommand extends Command implements MutatingCommand {
     private static final String MESSAGE_BYE = "Bye. Hope to see you again soon!\n";
 
     /**
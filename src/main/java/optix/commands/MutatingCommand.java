@@ -0,0 +1,8 @@
+package optix.commands;
+
+/**
+ * Marks a command that changes the shows or the save file. Such commands are applied one at a time
+ * by the writer of the mutation pipeline, while other commands run wherever they are given.
+ */
+public interface MutatingCommand {
+}
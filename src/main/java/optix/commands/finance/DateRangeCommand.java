@@ -0,0 +1,85 @@
+package optix.commands.finance;
+
+import optix.commands.Command;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.exceptions.OptixInvalidDateException;
+import optix.ui.Ui;
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+
+/**
+ * A finance command over a range of dates, given as "START_DATE END_DATE".
+ */
+public abstract class DateRangeCommand extends Command {
+    private String details;
+
+    private OptixDateFormatter formatter = new OptixDateFormatter();
+
+    private static final String MESSAGE_INVALID_RANGE = "☹ OOPS!!! The start date cannot be after the end date.\n";
+
+    /**
+     * Instantiates the command.
+     *
+     * @param details String of format "START_DATE END_DATE"
+     */
+    protected DateRangeCommand(String details) {
+        this.details = details;
+        initLogger();
+    }
+
+    /**
+     * Get the answer to the command for a valid range of dates.
+     *
+     * @param model The data structure holding all the information.
+     * @param from  The first date of the range.
+     * @param to    The last date of the range, which is not before the first.
+     * @return Message to show to the user.
+     */
+    protected abstract String findInRange(Model model, LocalDate from, LocalDate to);
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        StringBuilder message = new StringBuilder();
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            String fromDate = detailsArray[0].trim();
+            String toDate = detailsArray[1].trim();
+
+            if (!formatter.isValidDate(fromDate) || !formatter.isValidDate(toDate)) {
+                OPTIXLOGGER.log(Level.WARNING, "invalid date provided");
+                throw new OptixInvalidDateException();
+            }
+
+            LocalDate from = formatter.toLocalDate(fromDate);
+            LocalDate to = formatter.toLocalDate(toDate);
+
+            if (from.isAfter(to)) {
+                OPTIXLOGGER.log(Level.WARNING, "start date is after end date");
+                throw new OptixException(MESSAGE_INVALID_RANGE);
+            }
+            message.append(findInRange(model, from, to));
+        } catch (OptixException e) {
+            message.append(e.getMessage());
+            ui.setMessage(message.toString());
+            return "";
+        }
+        ui.setMessage(message.toString());
+        return "finance";
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split(" +");
+        if (detailsArray.length != 2) {
+            OPTIXLOGGER.log(Level.WARNING, "Expected details array length: 2");
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+}
@@ -9,6 +9,8 @@ import optix.exceptions.OptixInvalidDateException;
 import optix.ui.Ui;
 import optix.util.OptixDateFormatter;
 
+import java.time.DateTimeException;
+import java.time.YearMonth;
 import java.util.logging.Level;
 
 //@@author NicholasLiu97
@@ -25,30 +27,16 @@ public class ViewMonthlyCommand extends Command {
     public String execute(Model model, Ui ui, Storage storage) {
         OPTIXLOGGER.log(Level.INFO, "executing command");
         StringBuilder message = new StringBuilder();
-        int mth;
-        int yr;
         try {
             String[] detailsArray = parseDetails(this.details);
-            mth = formatter.getMonth(detailsArray[0].trim().toLowerCase());
-            yr = formatter.getYear(detailsArray[1].trim());
+            int mth = formatter.getMonth(detailsArray[0].trim().toLowerCase());
+            int yr = formatter.getYear(detailsArray[1].trim());
 
             if (mth == 0 || yr == 0) {
                 OPTIXLOGGER.log(Level.WARNING, "month is 0 or year is 0");
                 throw new OptixInvalidDateException();
             }
-            if (yr < storage.getToday().getYear()) {
-                message.append(model.findMonthly(mth, yr, model.getShowsHistory()));
-            } else if (yr > storage.getToday().getYear()) {
-                message.append(model.findMonthly(mth, yr, model.getShows()));
-            } else { // year is the current year or later
-                if (mth < storage.getToday().getMonthValue()) {
-                    message.append(model.findMonthly(mth, yr, model.getShowsHistory()));
-                } else if (mth == storage.getToday().getMonthValue()) {
-                    message.append(model.findMonthly(mth, yr, model.getShowsHistory(), model.getShows()));
-                } else {
-                    message.append(model.findMonthly(mth, yr, model.getShows()));
-                }
-            }
+            message.append(model.findMonthly(parseMonth(mth, yr), YearMonth.from(storage.getToday())));
         } catch (OptixException e) {
             message.append(e.getMessage());
             ui.setMessage(message.toString());
@@ -58,6 +46,15 @@ public class ViewMonthlyCommand extends Command {
         return "finance";
     }
 
+    private YearMonth parseMonth(int mth, int yr) throws OptixInvalidDateException {
+        try {
+            return YearMonth.of(yr, mth);
+        } catch (DateTimeException e) {
+            OPTIXLOGGER.log(Level.WARNING, "month is out of range");
+            throw new OptixInvalidDateException();
+        }
+    }
+
     @Override
     public String[] parseDetails(String details) throws OptixInvalidCommandException {
         String[] detailsArray = details.trim().split(" ");
@@ -8,6 +8,7 @@ import optix.exceptions.OptixException;
 import optix.exceptions.OptixInvalidCommandException;
 import optix.exceptions.OptixInvalidDateException;
 import optix.ui.Ui;
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
 
 import java.time.LocalDate;
@@ -21,7 +22,7 @@ public class ViewProfitCommand extends Command {
 
     private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
 
-    private static final String MESSAGE_SUCCESSFUL = "The profit for %1$s on %2$s is $%3$.2f\n";
+    private static final String MESSAGE_SUCCESSFUL = "The profit for %1$s on %2$s is $%3$s\n";
 
     /**
      * Views the profit made from a show on a certain date.
@@ -55,16 +56,15 @@ public class ViewProfitCommand extends Command {
                 ShowMap showsHistory = model.getShowsHistory();
                 if (showsHistory.containsKey(localDate) && showsHistory.get(localDate).hasSameName(showName)) { //date not found
                     message.append(String.format(MESSAGE_SUCCESSFUL, showName, showDate,
-                            showsHistory.getProfit(localDate)));
+                            Money.format(showsHistory.getProfit(localDate))));
                 } else {
                     OPTIXLOGGER.log(Level.WARNING, "Show not found");
                     message.append(MESSAGE_SHOW_NOT_FOUND);
                 }
             } else {
-                ShowMap shows = model.getShows();
-                if (shows.containsKey(localDate) && model.hasSameName(localDate, showName)) {
+                if (model.containsKey(localDate) && model.hasSameName(localDate, showName)) {
                     message.append(String.format(MESSAGE_SUCCESSFUL, showName, showDate,
-                            shows.getProfit(localDate)));
+                            Money.format(model.getProfit(localDate))));
                 } else {
                     OPTIXLOGGER.log(Level.WARNING, "Show not found");
                     message.append(MESSAGE_SHOW_NOT_FOUND);
@@ -0,0 +1,21 @@
+package optix.commands.finance;
+
+import optix.commons.Model;
+
+import java.time.LocalDate;
+
+public class ViewReportCommand extends DateRangeCommand {
+    /**
+     * Views a report of the earnings over a range of dates, by show and by month.
+     *
+     * @param details String of format "START_DATE END_DATE"
+     */
+    public ViewReportCommand(String details) {
+        super(details);
+    }
+
+    @Override
+    protected String findInRange(Model model, LocalDate from, LocalDate to) {
+        return model.findReport(from, to);
+    }
+}
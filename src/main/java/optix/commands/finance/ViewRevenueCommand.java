@@ -0,0 +1,21 @@
+package optix.commands.finance;
+
+import optix.commons.Model;
+
+import java.time.LocalDate;
+
+public class ViewRevenueCommand extends DateRangeCommand {
+    /**
+     * Views the earnings over a range of dates.
+     *
+     * @param details String of format "START_DATE END_DATE"
+     */
+    public ViewRevenueCommand(String details) {
+        super(details);
+    }
+
+    @Override
+    protected String findInRange(Model model, LocalDate from, LocalDate to) {
+        return model.findRevenue(from, to);
+    }
+}
@@ -10,14 +10,13 @@ import optix.ui.Ui;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 
 //@@author OungKennedy
 public class RemoveAliasCommand extends Command {
     private String details;
-    private HashMap<String, String> commandAliasMap;
+    private Map<String, String> commandAliasMap;
 
     /**
      * Command to remove an existing alias from aliasCommandMap.
@@ -25,7 +24,7 @@ public class RemoveAliasCommand extends Command {
      * @param details         the details of alias to remove and its command, in an array
      * @param commandAliasMap the command alias map
      */
-    public RemoveAliasCommand(String details, HashMap<String, String> commandAliasMap) {
+    public RemoveAliasCommand(String details, Map<String, String> commandAliasMap) {
         this.details = details;
         this.commandAliasMap = commandAliasMap;
         initLogger();
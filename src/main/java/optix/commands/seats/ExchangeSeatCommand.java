@@ -0,0 +1,101 @@
+package optix.commands.seats;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.commons.model.SeatTransaction;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.exceptions.OptixInvalidDateException;
+import optix.ui.Ui;
+import optix.util.Money;
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+public class ExchangeSeatCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private OptixDateFormatter formatter = new OptixDateFormatter();
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show %1$s on %2$s cannot be found.\n";
+
+    private static final String MESSAGE_SUCCESSFUL = "Your seats have been successfully exchanged from %1$s to %2$s.\n";
+
+    private static final String MESSAGE_EXTRA_COST = "An extra cost of $%1$s is required.\n";
+
+    private static final String MESSAGE_RETURN_COST = "$%1$s will be returned.\n";
+
+    /**
+     * Instantiates the command.
+     * This function is called when a customer exchanges seats for seats of the same or another show.
+     *
+     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|OLD_SEAT_1 OLD_SEAT_2 etc.|NEW_SHOW_NAME|NEW_SHOW_DATE|NEW_SEAT_1 etc."
+     */
+    public ExchangeSeatCommand(String splitStr) {
+        this.details = splitStr;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        StringBuilder message = new StringBuilder();
+
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            LocalDate oldShowDate = getShowDate(model, detailsArray[0].trim(), detailsArray[1].trim());
+            String[] oldSeats = detailsArray[2].trim().split(" +");
+            LocalDate newShowDate = getShowDate(model, detailsArray[3].trim(), detailsArray[4].trim());
+            String[] newSeats = detailsArray[5].trim().split(" +");
+
+            SeatTransaction transaction = new SeatTransaction().remove(oldShowDate, oldSeats).sell(newShowDate, newSeats);
+            String errors = model.commitSeatTransaction(transaction);
+            if (!errors.isEmpty()) {
+                throw new OptixException(errors);
+            }
+            storage.write(model.getShows());
+
+            message.append(String.format(MESSAGE_SUCCESSFUL, Arrays.toString(oldSeats), Arrays.toString(newSeats)));
+            long difference = transaction.getTotalSold() - transaction.getTotalRemoved();
+            if (difference > 0) {
+                message.append(String.format(MESSAGE_EXTRA_COST, Money.format(difference)));
+            } else if (difference < 0) {
+                message.append(String.format(MESSAGE_RETURN_COST, Money.format(-difference)));
+            }
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error exchanging seats. Details:" + this.details);
+            message.append(e.getMessage());
+            ui.setMessage(message.toString());
+            return "";
+        }
+        ui.setMessage(message.toString());
+        return "seat";
+    }
+
+    private LocalDate getShowDate(Model model, String showName, String showDate) throws OptixException {
+        if (!formatter.isValidDate(showDate)) {
+            OPTIXLOGGER.log(Level.WARNING, "Invalid date given:" + showDate);
+            throw new OptixInvalidDateException();
+        }
+
+        LocalDate showLocalDate = formatter.toLocalDate(showDate);
+        if (!model.containsKey(showLocalDate) || !model.hasSameName(showLocalDate, showName)) {
+            OPTIXLOGGER.log(Level.WARNING, "Show not found: " + showName);
+            throw new OptixException(String.format(MESSAGE_SHOW_NOT_FOUND, showName, showDate));
+        }
+        return showLocalDate;
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split("\\|");
+        if (detailsArray.length != 6) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+
+}
@@ -0,0 +1,108 @@
+package optix.commands.seats;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.exceptions.OptixInvalidDateException;
+import optix.ui.Ui;
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+
+public class HoldSeatCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private OptixDateFormatter formatter = new OptixDateFormatter();
+
+    private static final long DEFAULT_HOLD_MINUTES = 10;
+
+    // a hold never lasts longer than a day.
+    private static final long MAX_HOLD_MINUTES = 24 * 60;
+
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
+
+    private static final String MESSAGE_INVALID_MINUTES = "☹ OOPS!!! The number of minutes must be a whole number "
+            + "from 1 to " + MAX_HOLD_MINUTES + ".\n";
+
+    /**
+     * Instantiates the command.
+     * This function is called when the customer has not decided whether to buy the seats.
+     *
+     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|SEAT_1 SEAT_2 etc." or
+     *                 "SHOW_NAME|SHOW_DATE|SEAT_1 SEAT_2 etc.|MINUTES"
+     */
+    public HoldSeatCommand(String splitStr) {
+        this.details = splitStr;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        StringBuilder message = new StringBuilder();
+
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            String showName = detailsArray[0].trim();
+            String showDate = detailsArray[1].trim();
+            String[] seats = detailsArray[2].trim().split(" +");
+            long holdMinutes = detailsArray.length == 4 ? parseMinutes(detailsArray[3].trim()) : DEFAULT_HOLD_MINUTES;
+
+            if (!formatter.isValidDate(showDate)) {
+                OPTIXLOGGER.log(Level.WARNING, "Invalid date given:" + showDate);
+                throw new OptixInvalidDateException();
+            }
+
+            LocalDate showLocalDate = formatter.toLocalDate(showDate);
+
+            if (model.containsKey(showLocalDate) && model.hasSameName(showLocalDate, showName)) {
+                message.append(holdSeats(model, showLocalDate, holdMinutes, seats));
+            } else {
+                OPTIXLOGGER.log(Level.WARNING, "Show not found: " + showName);
+                ui.setMessage(MESSAGE_SHOW_NOT_FOUND);
+                return "";
+            }
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error holding seat. Details:" + this.details);
+            message.append(e.getMessage());
+            ui.setMessage(message.toString());
+            return "";
+        }
+        ui.setMessage(message.toString());
+        return "seat";
+    }
+
+    private String holdSeats(Model model, LocalDate showLocalDate, long holdMinutes, String[] seats) throws OptixException {
+        try {
+            return model.holdSeats(showLocalDate, holdMinutes, seats);
+        } catch (ArithmeticException e) {
+            throw new OptixException(MESSAGE_INVALID_MINUTES);
+        }
+    }
+
+    private long parseMinutes(String minutes) throws OptixException {
+        try {
+            long holdMinutes = Long.parseLong(minutes);
+            if (holdMinutes <= 0 || holdMinutes > MAX_HOLD_MINUTES) {
+                throw new OptixException(MESSAGE_INVALID_MINUTES);
+            }
+            return holdMinutes;
+        } catch (NumberFormatException e) {
+            throw new OptixException(MESSAGE_INVALID_MINUTES);
+        }
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split("\\|");
+        if (detailsArray.length != 3 && detailsArray.length != 4) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+
+}
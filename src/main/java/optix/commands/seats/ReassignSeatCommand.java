@@ -1,6 +1,7 @@
 package optix.commands.seats;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixException;
@@ -13,7 +14,7 @@ import java.time.LocalDate;
 import java.util.logging.Level;
 
 //@@author NicholasLiu97
-public class ReassignSeatCommand extends Command {
+public class ReassignSeatCommand extends Command implements MutatingCommand {
     private String details;
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
@@ -0,0 +1,116 @@
+package optix.commands.seats;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.commons.model.SeatTier;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.exceptions.OptixInvalidDateException;
+import optix.ui.Ui;
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+
+public class SellBestSeatCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private OptixDateFormatter formatter = new OptixDateFormatter();
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
+
+    private static final String MESSAGE_INVALID_NUMBER = "☹ OOPS!!! The number of seats must be a positive whole number.\n";
+
+    private static final String MESSAGE_INVALID_TIER = "☹ OOPS!!! The seat tier must be 1, 2 or 3.\n";
+
+    private static final String MESSAGE_NO_BLOCK = "☹ OOPS!!! There are no %1$d seats next to each other available.\n";
+
+    /**
+     * Instantiates the command.
+     * This function is called when the customer wants the best available seats next to each other.
+     *
+     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|NUMBER_OF_SEATS" or "SHOW_NAME|SHOW_DATE|NUMBER_OF_SEATS|TIER"
+     */
+    public SellBestSeatCommand(String splitStr) {
+        this.details = splitStr;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        StringBuilder message = new StringBuilder();
+
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            String showName = detailsArray[0].trim();
+            String showDate = detailsArray[1].trim();
+            int numberOfSeats = parseNumberOfSeats(detailsArray[2].trim());
+            SeatTier tier = detailsArray.length == 4 ? parseTier(detailsArray[3].trim()) : null;
+
+            if (!formatter.isValidDate(showDate)) {
+                OPTIXLOGGER.log(Level.WARNING, "Invalid date given:" + showDate);
+                throw new OptixInvalidDateException();
+            }
+
+            LocalDate showLocalDate = formatter.toLocalDate(showDate);
+
+            if (!model.containsKey(showLocalDate) || !model.hasSameName(showLocalDate, showName)) {
+                OPTIXLOGGER.log(Level.WARNING, "Show not found: " + showName);
+                ui.setMessage(MESSAGE_SHOW_NOT_FOUND);
+                return "";
+            }
+
+            String soldMessage = model.sellBestSeats(showLocalDate, numberOfSeats, tier);
+            if (soldMessage.isEmpty()) {
+                OPTIXLOGGER.log(Level.INFO, "No block of seats available");
+                throw new OptixException(String.format(MESSAGE_NO_BLOCK, numberOfSeats));
+            }
+            message.append(soldMessage);
+            storage.write(model.getShows());
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error selling best seats. Details:" + this.details);
+            message.append(e.getMessage());
+            ui.setMessage(message.toString());
+            return "";
+        }
+        ui.setMessage(message.toString());
+        return "seat";
+    }
+
+    private int parseNumberOfSeats(String numberOfSeats) throws OptixException {
+        try {
+            int number = Integer.parseInt(numberOfSeats);
+            if (number <= 0) {
+                throw new OptixException(MESSAGE_INVALID_NUMBER);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new OptixException(MESSAGE_INVALID_NUMBER);
+        }
+    }
+
+    private SeatTier parseTier(String tier) throws OptixException {
+        switch (tier) {
+        case "1":
+            return SeatTier.ONE;
+        case "2":
+            return SeatTier.TWO;
+        case "3":
+            return SeatTier.THREE;
+        default:
+            throw new OptixException(MESSAGE_INVALID_TIER);
+        }
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split("\\|");
+        if (detailsArray.length != 3 && detailsArray.length != 4) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+
+}
@@ -0,0 +1,90 @@
+package optix.commands.seats;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.commons.model.SeatTransaction;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.exceptions.OptixInvalidDateException;
+import optix.ui.Ui;
+import optix.util.Money;
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+public class SellGroupSeatCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private OptixDateFormatter formatter = new OptixDateFormatter();
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
+
+    private static final String MESSAGE_SUCCESSFUL = "You have successfully purchased the following seats: \n"
+            + "%1$s\n"
+            + "The total cost of the tickets are $%2$s\n";
+
+    /**
+     * Instantiates the command.
+     * This function is called when a group wants either all of the seats or none of them.
+     *
+     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|SEAT_1 SEAT_2 etc."
+     */
+    public SellGroupSeatCommand(String splitStr) {
+        this.details = splitStr;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        StringBuilder message = new StringBuilder();
+
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            String showName = detailsArray[0].trim();
+            String showDate = detailsArray[1].trim();
+            String[] seats = detailsArray[2].trim().split(" +");
+
+            if (!formatter.isValidDate(showDate)) {
+                OPTIXLOGGER.log(Level.WARNING, "Invalid date given:" + showDate);
+                throw new OptixInvalidDateException();
+            }
+
+            LocalDate showLocalDate = formatter.toLocalDate(showDate);
+
+            if (!model.containsKey(showLocalDate) || !model.hasSameName(showLocalDate, showName)) {
+                OPTIXLOGGER.log(Level.WARNING, "Show not found: " + showName);
+                ui.setMessage(MESSAGE_SHOW_NOT_FOUND);
+                return "";
+            }
+
+            SeatTransaction transaction = new SeatTransaction().sell(showLocalDate, seats);
+            String errors = model.commitSeatTransaction(transaction);
+            if (!errors.isEmpty()) {
+                throw new OptixException(errors);
+            }
+            storage.write(model.getShows());
+            message.append(String.format(MESSAGE_SUCCESSFUL, Arrays.toString(seats), Money.format(transaction.getTotalSold())));
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error selling group seats. Details:" + this.details);
+            message.append(e.getMessage());
+            ui.setMessage(message.toString());
+            return "";
+        }
+        ui.setMessage(message.toString());
+        return "seat";
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split("\\|");
+        if (detailsArray.length != 3) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+
+}
@@ -1,6 +1,7 @@
 package optix.commands.seats;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixException;
@@ -13,18 +14,21 @@ import java.time.LocalDate;
 import java.util.logging.Level;
 
 //@@author CheeSengg
-public class SellSeatCommand extends Command {
+public class SellSeatCommand extends Command implements MutatingCommand {
     private String details;
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
     private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
 
+    private static final String MESSAGE_INVALID_HOLD = "☹ OOPS!!! The hold number must be a positive whole number.\n";
+
     /**
      * Instantiates the command.
      * This function is called when the customer has already
      * decided on his seat.
      *
-     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|DATE_1 DATE_2 etc."
+     * @param splitStr String in the format "SHOW_NAME|SHOW_DATE|DATE_1 DATE_2 etc." or
+     *                 "SHOW_NAME|SHOW_DATE|DATE_1 DATE_2 etc.|HOLD_NUMBER"
      */
     public SellSeatCommand(String splitStr) {
         this.details = splitStr;
@@ -44,6 +48,7 @@ public class SellSeatCommand extends Command {
             for (int i = 0; i < seats.length; i += 1) {
                 seats[i] = seats[i].trim();
             }
+            long holdId = detailsArray.length == 4 ? parseHoldId(detailsArray[3].trim()) : 0;
             if (!formatter.isValidDate(showDate)) {
                 OPTIXLOGGER.log(Level.WARNING, "Invalid date given:" + showDate);
                 throw new OptixInvalidDateException();
@@ -52,7 +57,7 @@ public class SellSeatCommand extends Command {
             LocalDate showLocalDate = formatter.toLocalDate(showDate);
 
             if (model.containsKey(showLocalDate) && model.hasSameName(showLocalDate, showName)) {
-                message.append(model.sellSeats(showLocalDate, seats));
+                message.append(model.sellSeats(showLocalDate, holdId, seats));
                 storage.write(model.getShows());
             } else {
                 OPTIXLOGGER.log(Level.WARNING, "Show not found: " + showName);
@@ -69,10 +74,22 @@ public class SellSeatCommand extends Command {
         return "seat";
     }
 
+    private long parseHoldId(String holdNumber) throws OptixException {
+        try {
+            long holdId = Long.parseLong(holdNumber);
+            if (holdId <= 0) {
+                throw new OptixException(MESSAGE_INVALID_HOLD);
+            }
+            return holdId;
+        } catch (NumberFormatException e) {
+            throw new OptixException(MESSAGE_INVALID_HOLD);
+        }
+    }
+
     @Override
     public String[] parseDetails(String details) throws OptixInvalidCommandException {
         String[] detailsArray = details.trim().split("\\|");
-        if (detailsArray.length != 3) {
+        if (detailsArray.length != 3 && detailsArray.length != 4) {
             throw new OptixInvalidCommandException();
         }
         return detailsArray;
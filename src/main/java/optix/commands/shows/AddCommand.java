@@ -1,18 +1,23 @@
 package optix.commands.shows;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixException;
 import optix.exceptions.OptixInvalidCommandException;
 import optix.ui.Ui;
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
+import optix.util.ShowRecurrence;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 //@@author CheeSengg
-public class AddCommand extends Command {
+public class AddCommand extends Command implements MutatingCommand {
     private String details;
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
@@ -26,7 +31,8 @@ public class AddCommand extends Command {
     /**
      * Add a show to the show list.
      *
-     * @param splitStr String of format "SHOW_NAME|SEAT_BASE_PRICE|DATE_1|DATE_2|etc"
+     * @param splitStr String of format "SHOW_NAME|SEAT_BASE_PRICE|DATE_1|DATE_2|etc" or
+     *                 "SHOW_NAME|SEAT_BASE_PRICE|every DAYS from START_DATE to END_DATE except DATE_1 DATE_2 etc."
      */
     public AddCommand(String splitStr) {
         this.details = splitStr;
@@ -37,12 +43,16 @@ public class AddCommand extends Command {
     public String execute(Model model, Ui ui, Storage storage) {
         String showName;
         String[] showDates;
-        double seatBasePrice;
+        ShowRecurrence recurrence = null;
+        long seatBasePrice;
         try {
             String[] detailsArray = parseDetails(details);
             showName = detailsArray[0].trim();
             showDates = detailsArray[2].trim().split("\\|");
-            seatBasePrice = Double.parseDouble(detailsArray[1]);
+            if (ShowRecurrence.isRecurrence(detailsArray[2])) {
+                recurrence = ShowRecurrence.parse(detailsArray[2]);
+            }
+            seatBasePrice = Money.parse(detailsArray[1]);
             if (seatBasePrice < 0) {
                 throw new OptixException("Seat base price cannot be negative.\n");
             }
@@ -56,27 +66,43 @@ public class AddCommand extends Command {
 
         LocalDate today = storage.getToday();
         ArrayList<String> errorShows = new ArrayList<>();
+        Set<LocalDate> newShowDates = new LinkedHashSet<>();
         StringBuilder message = new StringBuilder(MESSAGE_SUCCESSFUL);
         int counter = 1;
 
-        for (String showDate : showDates) {
-            String date = showDate.trim();
-            if (!hasValidDate(date)) {
-                errorShows.add(date);
-                continue;
+        if (recurrence != null) {
+            for (LocalDate showLocalDate : recurrence) {
+                String date = formatter.toStringDate(showLocalDate);
+                if (canAddShow(model, today, showName, showLocalDate, newShowDates)) {
+                    newShowDates.add(showLocalDate);
+                    message.append(String.format(MESSAGE_ENTRY, counter, showName, date));
+                    counter++;
+                } else {
+                    errorShows.add(date);
+                }
             }
-
-            LocalDate showLocalDate = formatter.toLocalDate(date);
-
-            if (showLocalDate.compareTo(today) <= 0 || model.containsKey(showLocalDate)) {
-                errorShows.add(date);
-            } else {
-                model.addShow(showName, showLocalDate, seatBasePrice);
-                message.append(String.format(MESSAGE_ENTRY, counter, showName, date));
-                counter++;
+        } else {
+            for (String showDate : showDates) {
+                String date = showDate.trim();
+                if (!hasValidDate(date)) {
+                    errorShows.add(date);
+                    continue;
+                }
+
+                LocalDate showLocalDate = formatter.toLocalDate(date);
+
+                if (canAddShow(model, today, showName, showLocalDate, newShowDates)) {
+                    newShowDates.add(showLocalDate);
+                    message.append(String.format(MESSAGE_ENTRY, counter, showName, date));
+                    counter++;
+                } else {
+                    errorShows.add(date);
+                }
             }
         }
-        if (errorShows.size() == showDates.length) {
+        model.addShows(showName, newShowDates, seatBasePrice);
+
+        if (newShowDates.isEmpty()) {
             message = new StringBuilder(MESSAGE_UNSUCCESSFUL);
         } else if (errorShows.size() != 0) {
             message.append("\n" + MESSAGE_UNSUCCESSFUL);
@@ -98,6 +124,15 @@ public class AddCommand extends Command {
         return detailsArray;
     }
 
+    /**
+     * Checks if a show can be added on the date. The shows to be added by this command are checked too,
+     * as they are only added to the model once every date has been checked.
+     */
+    private boolean canAddShow(Model model, LocalDate today, String showName, LocalDate showDate, Set<LocalDate> newShowDates) {
+        return showDate.compareTo(today) > 0 && !newShowDates.contains(showDate) && !model.containsKey(showDate)
+                && model.findChangeoverClash(showName, showDate) == null;
+    }
+
     private boolean hasValidDate(String date) {
         return formatter.isValidDate(date);
     }
@@ -0,0 +1,67 @@
+package optix.commands.shows;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.ui.Ui;
+
+import java.util.logging.Level;
+
+public class ChangeoverCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private static final String MESSAGE_SUCCESSFUL = "Noted. The theatre will be closed for %1$d days "
+            + "between shows of different productions.\n";
+
+    private static final String MESSAGE_INVALID_DAYS = "☹ OOPS!!! The number of days must be a whole number that is not negative.\n";
+
+    /**
+     * Set the number of days needed to change over the theatre from one production to another.
+     *
+     * @param details String of format "DAYS"
+     */
+    public ChangeoverCommand(String details) {
+        this.details = details;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            int changeoverDays = parseDays(detailsArray[0]);
+            model.setChangeoverDays(changeoverDays);
+            storage.write(model.getShows());
+            ui.setMessage(String.format(MESSAGE_SUCCESSFUL, changeoverDays));
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error setting changeover. Details:" + this.details);
+            ui.setMessage(e.getMessage());
+        }
+        return "";
+    }
+
+    private int parseDays(String days) throws OptixException {
+        try {
+            int changeoverDays = Integer.parseInt(days);
+            if (changeoverDays < 0) {
+                throw new OptixException(MESSAGE_INVALID_DAYS);
+            }
+            return changeoverDays;
+        } catch (NumberFormatException e) {
+            throw new OptixException(MESSAGE_INVALID_DAYS);
+        }
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split(" +");
+        if (detailsArray.length != 1) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+}
@@ -1,6 +1,7 @@
 package optix.commands.shows;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixInvalidCommandException;
@@ -12,7 +13,7 @@ import java.util.ArrayList;
 import java.util.logging.Level;
 
 //@@author OungKennedy
-public class DeleteCommand extends Command {
+public class DeleteCommand extends Command implements MutatingCommand {
     private String details;
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
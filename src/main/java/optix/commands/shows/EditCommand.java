@@ -1,6 +1,7 @@
 package optix.commands.shows;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixException;
@@ -13,13 +14,22 @@ import java.time.LocalDate;
 import java.util.logging.Level;
 
 //@@author CheeSengg
-public class EditCommand extends Command {
+public class EditCommand extends Command implements MutatingCommand {
     private String details;
 
     private static final String MESSAGE_UPDATE_SUCCESSFUL = "Show has been successfully updated to %1$s.\n";
 
     private static final String MESSAGE_UPDATE_UNSUCCESSFUL = "☹ OOPS!!! The show you are finding does not exist!\n";
 
+    private static final String MESSAGE_CHANGEOVER_CLASH = "☹ OOPS!!! There is not enough time to change over "
+            + "from the show on %1$s.\n";
+
+    private static final String MESSAGE_EDIT_CONFLICT = "☹ OOPS!!! The show on %1$s keeps being changed by someone else. "
+            + "Please try again.\n";
+
+    // number of times the edit is checked and tried again when someone else changes the show in between.
+    private static final int MAX_ATTEMPTS = 3;
+
     private OptixDateFormatter formatter = new OptixDateFormatter();
 
     /**
@@ -48,13 +58,23 @@ public class EditCommand extends Command {
             LocalDate localShowDate = formatter.toLocalDate(showDate);
             StringBuilder message = new StringBuilder();
 
-            if (model.containsKey(localShowDate) && model.hasSameName(localShowDate, oldShowName)) {
-                model.editShowName(localShowDate, newShowName);
-                storage.write(model.getShows());
-                message.append(String.format(MESSAGE_UPDATE_SUCCESSFUL, newShowName));
-            } else {
-                OPTIXLOGGER.log(Level.WARNING, MESSAGE_UPDATE_UNSUCCESSFUL);
-                message.append(MESSAGE_UPDATE_UNSUCCESSFUL);
+            // the show is checked without blocking anyone, and the edit is only made if the show is unchanged since.
+            for (int attempt = 1; message.length() == 0; attempt++) {
+                long version = model.getShowVersion(localShowDate);
+                LocalDate clashDate = model.findChangeoverClash(newShowName, localShowDate);
+                if (!model.containsKey(localShowDate) || !model.hasSameName(localShowDate, oldShowName)) {
+                    OPTIXLOGGER.log(Level.WARNING, MESSAGE_UPDATE_UNSUCCESSFUL);
+                    message.append(MESSAGE_UPDATE_UNSUCCESSFUL);
+                } else if (clashDate != null) {
+                    OPTIXLOGGER.log(Level.WARNING, MESSAGE_CHANGEOVER_CLASH);
+                    message.append(String.format(MESSAGE_CHANGEOVER_CLASH, formatter.toStringDate(clashDate)));
+                } else if (model.editShowName(localShowDate, newShowName, version)) {
+                    storage.write(model.getShows());
+                    message.append(String.format(MESSAGE_UPDATE_SUCCESSFUL, newShowName));
+                } else if (attempt == MAX_ATTEMPTS) {
+                    OPTIXLOGGER.log(Level.WARNING, "show changed by someone else while being edited");
+                    message.append(String.format(MESSAGE_EDIT_CONFLICT, showDate));
+                }
             }
             ui.setMessage(message.toString());
         } catch (OptixException e) {
@@ -0,0 +1,53 @@
+package optix.commands.shows;
+
+import optix.commands.Command;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+
+import java.util.List;
+import java.util.logging.Level;
+
+public class FindCommand extends Command {
+    private String showName;
+
+    private static final String MESSAGE_FOUND_SHOW = "Here are the shows matching %1$s:\n";
+
+    private static final String MESSAGE_ENTRY = "%1$d. %2$s\n";
+
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! There are no shows matching %1$s.\n";
+
+    /**
+     * Find shows with names similar to the query.
+     *
+     * @param showName The full or partial name of the show. May contain typos.
+     */
+    public FindCommand(String showName) {
+        this.showName = showName.trim();
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        List<String> showNames = model.findShowNames(showName);
+
+        if (showNames.isEmpty()) {
+            OPTIXLOGGER.log(Level.WARNING, "No shows matching: " + showName);
+            ui.setMessage(String.format(MESSAGE_SHOW_NOT_FOUND, showName));
+            return "";
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FOUND_SHOW, showName));
+        for (int i = 0; i < showNames.size(); i++) {
+            message.append(String.format(MESSAGE_ENTRY, i + 1, showNames.get(i)));
+        }
+        ui.setMessage(message.toString());
+        return "";
+    }
+
+    @Override
+    public String[] parseDetails(String details) {
+        return new String[0];
+    }
+
+}
@@ -9,7 +9,7 @@ import optix.exceptions.OptixInvalidDateException;
 import optix.ui.Ui;
 import optix.util.OptixDateFormatter;
 
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.logging.Level;
 
 //@@author CheeSengg
@@ -42,11 +42,10 @@ public class ListDateCommand extends Command {
                 throw new OptixInvalidDateException();
             }
             formattedMonthOfYear = formatter.intToMonth(month) + ' ' + year;
-            LocalDate startOfMonth = formatter.getStartOfMonth(year, month);
-            LocalDate endOfMonth = formatter.getEndOfMonth(year, month);
             message.append(String.format(MESSAGE_FOUND_SHOW, formattedMonthOfYear));
-            message.append(model.listShow(startOfMonth, endOfMonth));
-            if (!hasShow(message.toString())) {
+            String listing = model.listShow(YearMonth.of(year, month));
+            message.append(listing);
+            if (listing.isEmpty()) {
                 message = new StringBuilder(String.format(MESSAGE_NO_SHOWS_FOUND, formattedMonthOfYear));
                 OPTIXLOGGER.log(Level.WARNING, message.toString());
             }
@@ -71,8 +70,4 @@ public class ListDateCommand extends Command {
         return new String[0];
     }
 
-    private boolean hasShow(String message) {
-        return !message.equals(String.format(MESSAGE_FOUND_SHOW, formattedMonthOfYear));
-    }
-
 }
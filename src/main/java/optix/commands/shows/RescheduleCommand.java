@@ -1,6 +1,7 @@
 package optix.commands.shows;
 
 import optix.commands.Command;
+import optix.commands.MutatingCommand;
 import optix.commons.Model;
 import optix.commons.Storage;
 import optix.exceptions.OptixException;
@@ -13,7 +14,7 @@ import java.time.LocalDate;
 import java.util.logging.Level;
 
 //@@author CheeSengg
-public class RescheduleCommand extends Command {
+public class RescheduleCommand extends Command implements MutatingCommand {
     private String details;
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
@@ -25,10 +26,19 @@ public class RescheduleCommand extends Command {
 
     private static final String MESSAGE_SHOW_CLASH = "☹ OOPS!!! There already exists a show for %1$s.\n";
 
+    private static final String MESSAGE_CHANGEOVER_CLASH = "☹ OOPS!!! There is not enough time to change over "
+            + "from the show on %1$s.\n";
+
     private static final String MESSAGE_INVALID_NEW_DATE = "☹ OOPS!!! It is not possible to reschedule to the past.\n";
 
     private static final String MESSAGE_SUCCESSFUL = "%1$s has been rescheduled from %2$s to %3$s.\n";
 
+    private static final String MESSAGE_RESCHEDULE_CONFLICT = "☹ OOPS!!! The show on %1$s keeps being changed by "
+            + "someone else. Please try again.\n";
+
+    // number of times the reschedule is checked and tried again when someone else changes the show in between.
+    private static final int MAX_ATTEMPTS = 3;
+
     /**
      * Command to reschedule show.
      *
@@ -60,7 +70,11 @@ public class RescheduleCommand extends Command {
             if (localNewDate.compareTo(today) <= 0) {
                 OPTIXLOGGER.log(Level.WARNING, "Invalid date");
                 message = MESSAGE_INVALID_NEW_DATE;
-            } else {
+            }
+            // the show is checked without blocking anyone, and only moved if the show is unchanged since.
+            for (int attempt = 1; message.isEmpty(); attempt++) {
+                long version = model.getShowVersion(localOldDate);
+                LocalDate clashDate = model.findChangeoverClash(showName, localNewDate);
                 if (!model.containsKey(localOldDate)) {
                     OPTIXLOGGER.log(Level.WARNING, MESSAGE_SHOW_NOT_FOUND);
                     message = MESSAGE_SHOW_NOT_FOUND;
@@ -70,10 +84,15 @@ public class RescheduleCommand extends Command {
                 } else if (!model.hasSameName(localOldDate, showName)) {
                     OPTIXLOGGER.log(Level.WARNING, MESSAGE_DOES_NOT_MATCH);
                     message = MESSAGE_DOES_NOT_MATCH;
-                } else {
-                    model.rescheduleShow(localOldDate, localNewDate);
+                } else if (clashDate != null) {
+                    OPTIXLOGGER.log(Level.WARNING, MESSAGE_CHANGEOVER_CLASH);
+                    message = String.format(MESSAGE_CHANGEOVER_CLASH, formatter.toStringDate(clashDate));
+                } else if (model.rescheduleShow(localOldDate, localNewDate, version)) {
                     storage.write(model.getShows());
                     message = String.format(MESSAGE_SUCCESSFUL, showName, oldDate, newDate);
+                } else if (attempt == MAX_ATTEMPTS) {
+                    OPTIXLOGGER.log(Level.WARNING, "show changed by someone else while being rescheduled");
+                    message = String.format(MESSAGE_RESCHEDULE_CONFLICT, oldDate);
                 }
             }
         } catch (OptixException e) {
@@ -0,0 +1,68 @@
+package optix.commands.shows;
+
+import optix.commands.Command;
+import optix.commands.MutatingCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidCommandException;
+import optix.ui.Ui;
+
+import java.util.logging.Level;
+
+public class SurchargesCommand extends Command implements MutatingCommand {
+    private String details;
+
+    private static final String MESSAGE_ON = "Noted. Seat prices will now rise as shows fill up, "
+            + "as shows draw near and when seats are selling quickly.\n";
+
+    private static final String MESSAGE_OFF = "Noted. Seats will now be sold at the price of their tier.\n";
+
+    private static final String MESSAGE_INVALID_SETTING = "☹ OOPS!!! Surcharges can only be turned on or off.\n";
+
+    /**
+     * Turn the surcharges on seat prices on or off.
+     *
+     * @param details String of format "on" or "off"
+     */
+    public SurchargesCommand(String details) {
+        this.details = details;
+        initLogger();
+    }
+
+    @Override
+    public String execute(Model model, Ui ui, Storage storage) {
+        OPTIXLOGGER.log(Level.INFO, "executing command");
+        try {
+            String[] detailsArray = parseDetails(this.details);
+            boolean hasSurcharges = parseSetting(detailsArray[0]);
+            model.setSurcharges(hasSurcharges);
+            storage.write(model.getShows());
+            ui.setMessage(hasSurcharges ? MESSAGE_ON : MESSAGE_OFF);
+        } catch (OptixException e) {
+            OPTIXLOGGER.log(Level.WARNING, "Error setting surcharges. Details:" + this.details);
+            ui.setMessage(e.getMessage());
+        }
+        return "";
+    }
+
+    private boolean parseSetting(String setting) throws OptixException {
+        switch (setting.toLowerCase()) {
+        case "on":
+            return true;
+        case "off":
+            return false;
+        default:
+            throw new OptixException(MESSAGE_INVALID_SETTING);
+        }
+    }
+
+    @Override
+    public String[] parseDetails(String details) throws OptixInvalidCommandException {
+        String[] detailsArray = details.trim().split(" +");
+        if (detailsArray.length != 1) {
+            throw new OptixInvalidCommandException();
+        }
+        return detailsArray;
+    }
+}
@@ -1,36 +1,103 @@
 package optix.commons;
 
+import optix.commons.model.FinanceReport;
+import optix.commons.model.MonthLocks;
+import optix.commons.model.SeatDelta;
+import optix.commons.model.SeatHoldWheel;
+import optix.commons.model.SeatTier;
+import optix.commons.model.SeatTransaction;
+import optix.commons.model.Show;
+import optix.commons.model.ShowLocks;
 import optix.commons.model.ShowMap;
+import optix.commons.model.ShowSnapshot;
 import optix.commons.model.Theatre;
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
 import java.util.logging.LogManager;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * The Optix model. Safe for several sellers to use at once.
+ * Changes to the schedule take the schedule lock and the locks of the months they change for writing.
+ * Seat changes only take the lock of the month of their show for reading and claim each seat with a compare-and-set,
+ * so any seat changes run side by side, even for the same show, and seat changes in nearby months only share
+ * the daily revenue totals, which they update under a shared lock. Changes that touch several seats together also
+ * take the lock of their show, so they do not interleave with each other. Views such as the seat map read under
+ * an optimistic stamp of the month of their show, and only take its lock for reading if the month changed while
+ * they ran, so views never hold up sales.
+ * Queries over the names of all shows take the schedule lock for reading.
+ * The GUI and the show and finance listings read immutable snapshots of the schedule without locking.
+ * Staff edits to a show are checked without locking and only made if the version stamp of the show is unchanged.
+ */
 //@@author CheeSengg
 public class Model {
     private ShowMap showsHistory = new ShowMap();
     private ShowMap shows = new ShowMap();
-    private ShowMap showsGui;
+    private volatile ShowSnapshot showsGui;
     private OptixDateFormatter formatter = new OptixDateFormatter();
     private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
 
+    private static final int MAX_SUGGESTIONS = 10;
+
+    private static final long HOLD_TICK_MILLIS = 1000;
+
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! The show cannot be found.\n";
+
+    private final Clock clock;
+    private final SeatHoldWheel seatHolds;
+    private final AtomicLong nextHoldId = new AtomicLong(1);
+    // releases lapsed holds once a tick, started with the first hold.
+    private ScheduledExecutorService holdTicker;
+
+    // the locks are not reentrant, so queries and changes under them must not call back into the Model.
+    // Taken in the order: schedule lock, month locks, show locks.
+    private final StampedLock scheduleLock = new StampedLock();
+    private final MonthLocks monthLocks = new MonthLocks();
+    private final ShowLocks showLocks = new ShowLocks();
+
     /**
      * The Optix model.
      *
      * @param storage the object which handles data from the save file.
      */
     public Model(Storage storage) {
+        this(storage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * The Optix model.
+     *
+     * @param storage the object which handles data from the save file.
+     * @param clock   the clock used to time seat holds and to price seats.
+     */
+    public Model(Storage storage, Clock clock) {
+        this.clock = clock;
+        this.seatHolds = new SeatHoldWheel(HOLD_TICK_MILLIS, clock.millis());
+        shows.setClock(clock);
         storage.loadShows(shows, showsHistory);
         storage.loadArchive(showsHistory);
         storage.writeArchive(showsHistory);
-        showsGui = this.getShows();
+        showsGui = shows.snapshot();
         initLogger();
     }
 
@@ -42,20 +109,121 @@ public class Model {
         return showsHistory;
     }
 
-    public ShowMap getShowsGui() {
+    public ShowSnapshot getShowsGui() {
         return showsGui;
     }
 
+    /**
+     * Show the latest snapshot of the schedule in query on the GUI.
+     *
+     * @param showsGui the ShowMap to show.
+     */
     public void setShowsGui(ShowMap showsGui) {
+        this.showsGui = showsGui.snapshot();
+    }
+
+    public void setShowsGui(ShowSnapshot showsGui) {
         this.showsGui = showsGui;
     }
 
+    /**
+     * Run a view of the show on the given date without locking, as long as no change to its month is made while
+     * it runs. The view must only read the shows and seats, which are safe to read while they are being changed.
+     */
+    private <T> T viewShow(LocalDate showDate, Supplier<T> view) {
+        return monthLocks.view(showDate, showDate, view);
+    }
+
+    /**
+     * Run an action on the show on the given date while no change to its month is in progress.
+     * Actions on shows may run at the same time.
+     */
+    private <T> T readShow(LocalDate showDate, Supplier<T> action) {
+        return monthLocks.read(showDate, action);
+    }
+
+    /**
+     * Run a query over the whole schedule while no change to the schedule is in progress.
+     * Queries and seat changes may run at the same time.
+     */
+    private <T> T readSchedule(Supplier<T> query) {
+        long stamp = scheduleLock.readLock();
+        try {
+            return query.get();
+        } finally {
+            scheduleLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Change the shows on the given dates while no other thread is using the schedule or their months.
+     */
+    private void writeSchedule(Collection<LocalDate> showDates, Runnable change) {
+        writeSchedule(showDates, () -> {
+            change.run();
+            return null;
+        });
+    }
+
+    private <T> T writeSchedule(Collection<LocalDate> showDates, Supplier<T> change) {
+        long stamp = scheduleLock.writeLock();
+        try {
+            return monthLocks.write(showDates, change);
+        } finally {
+            scheduleLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Change several seats of a show together. Changes to single seats may run at the same time.
+     */
+    private <T> T changeSeats(LocalDate showDate, Supplier<T> change) {
+        return readShow(showDate, () -> showLocks.withLock(showDate, change));
+    }
+
     public boolean hasSameName(LocalDate key, String showName) {
-        return shows.get(key).hasSameName(showName);
+        return viewShow(key, () -> shows.hasSameName(key, showName));
     }
 
     public boolean containsKey(LocalDate key) {
-        return shows.containsKey(key);
+        return viewShow(key, () -> shows.containsKey(key));
+    }
+
+    public LocalDate findChangeoverClash(String showName, LocalDate showDate) {
+        int changeoverDays = shows.getChangeoverDays();
+        return monthLocks.view(showDate.minusDays(changeoverDays), showDate.plusDays(changeoverDays),
+            () -> shows.findChangeoverClash(showName, showDate));
+    }
+
+    public int getChangeoverDays() {
+        return shows.getChangeoverDays();
+    }
+
+    public void setChangeoverDays(int changeoverDays) {
+        writeSchedule(List.of(), () -> shows.setChangeoverDays(changeoverDays));
+    }
+
+    public boolean hasSurcharges() {
+        return shows.hasSurcharges();
+    }
+
+    /**
+     * Set whether seat prices rise with demand and as shows draw near.
+     *
+     * @param hasSurcharges {@code true} to add surcharges, {@code false} to sell seats at the price of their tier.
+     */
+    public void setSurcharges(boolean hasSurcharges) {
+        writeSchedule(new ArrayList<>(shows.keySet()), () -> shows.setSurcharges(hasSurcharges));
+    }
+
+    /**
+     * Get the revenue of the show on the given date.
+     *
+     * @param showDate The date of the show.
+     * @return revenue of the show in cents.
+     */
+    public long getProfit(LocalDate showDate) {
+        return viewShow(showDate, () -> shows.getProfit(showDate));
     }
 
     //// Commands that deals with Shows
@@ -64,35 +232,78 @@ public class Model {
      * Method to add show to "shows" ShowMap.
      * @param showName name of show to add
      * @param showDate date of show to add
-     * @param seatBasePrice base price for seats of show to add
+     * @param seatBasePrice base price in cents for seats of show to add
      */
-    public void addShow(String showName, LocalDate showDate, double seatBasePrice) {
+    public void addShow(String showName, LocalDate showDate, long seatBasePrice) {
         OPTIXLOGGER.log(Level.INFO, "adding show: " + showName + " on " + showDate.toString()
-                + "at the base price of " + seatBasePrice);
-        shows.addShow(showName, showDate, seatBasePrice);
+                + "at the base price of " + Money.format(seatBasePrice));
+        writeSchedule(List.of(showDate), () -> shows.addShow(showName, showDate, seatBasePrice));
         this.setShowsGui(shows);
     }
 
     /**
-     * Method to edit the name of an existing show.
+     * Add a run of shows in one batch. The GUI is only refreshed once, after every show has been added.
+     * @param showName name of shows to add
+     * @param showDates dates of shows to add
+     * @param seatBasePrice base price in cents for seats of shows to add
+     */
+    public void addShows(String showName, Collection<LocalDate> showDates, long seatBasePrice) {
+        if (showDates.isEmpty()) {
+            return;
+        }
+        OPTIXLOGGER.log(Level.INFO, "adding " + showDates.size() + " shows of " + showName
+                + " at the base price of " + Money.format(seatBasePrice));
+        writeSchedule(showDates, () -> {
+            for (LocalDate showDate : showDates) {
+                shows.addShow(showName, showDate, seatBasePrice);
+            }
+        });
+        this.setShowsGui(shows);
+    }
+
+    /**
+     * Get the version stamp of the show on the given date, to be passed to an edit of the show
+     * once the edit has been checked against the show.
+     *
+     * @param showDate The date of the show.
+     * @return the version stamp, or -1 if there is no show on the date.
+     */
+    public long getShowVersion(LocalDate showDate) {
+        return viewShow(showDate, () -> shows.getShowVersion(showDate));
+    }
+
+    /**
+     * Method to edit the name of an existing show, unless someone else has changed the show since it was read.
      * @param showDate date of show to change
      * @param showName New name of show
+     * @param expectedVersion version stamp of the show when it was read
+     * @return true if the show has been renamed, false if it has changed since it was read
      */
-    public void editShowName(LocalDate showDate, String showName) {
+    public boolean editShowName(LocalDate showDate, String showName, long expectedVersion) {
         OPTIXLOGGER.log(Level.INFO, "editing show: " + showName + " scheduled on " + showDate.toString());
-        shows.editShowName(showDate, showName);
-        this.setShowsGui(shows);
+        boolean isEdited = writeSchedule(List.of(showDate), () -> shows.editShowName(showDate, showName, expectedVersion));
+        if (isEdited) {
+            this.setShowsGui(shows);
+        }
+        return isEdited;
     }
 
     /**
-     * Change the date of an existing show.
+     * Change the date of an existing show, unless someone else has changed the show or taken the new date
+     * since they were read.
      * @param oldDate Current date of show
      * @param newDate New date of show
+     * @param expectedVersion version stamp of the show when it was read
+     * @return true if the show has been rescheduled, false if the show or the new date has changed since it was read
      */
-    public void rescheduleShow(LocalDate oldDate, LocalDate newDate) {
+    public boolean rescheduleShow(LocalDate oldDate, LocalDate newDate, long expectedVersion) {
         OPTIXLOGGER.log(Level.INFO, "rescheduling show from " + oldDate.toString() + " to " + newDate.toString());
-        shows.rescheduleShow(oldDate, newDate);
-        this.setShowsGui(shows);
+        boolean isRescheduled = writeSchedule(List.of(oldDate, newDate),
+            () -> shows.rescheduleShow(oldDate, newDate, expectedVersion));
+        if (isRescheduled) {
+            this.setShowsGui(shows);
+        }
+        return isRescheduled;
     }
 
     /** Method to List all shows.
@@ -113,10 +324,11 @@ public class Model {
      */
     public String listShow(String showName) {
         OPTIXLOGGER.log(Level.INFO, "Listing show by name:" + showName);
-        this.setShowsGui(shows.listShow(showName));
+        ShowSnapshot listing = readSchedule(() -> shows.listShow(showName));
+        this.setShowsGui(listing);
         StringBuilder message = new StringBuilder();
         int counter = 1;
-        for (Map.Entry<LocalDate, Theatre> entry : showsGui.entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : listing.entrySet()) {
             String date = new OptixDateFormatter().toStringDate(entry.getKey());
             message.append(String.format("%d. %s\n", counter, date));
             counter++;
@@ -133,10 +345,32 @@ public class Model {
      */
     public String listShow(LocalDate startOfMonth, LocalDate endOfMonth) {
         OPTIXLOGGER.log(Level.INFO, "listing show by month:" + startOfMonth.toString());
-        this.setShowsGui(shows.listShow(startOfMonth, endOfMonth));
+        ShowSnapshot listing = shows.listShow(startOfMonth, endOfMonth);
+        this.setShowsGui(listing);
+        return listShows(listing);
+    }
+
+    /**
+     * Get the list of show for the month in query.
+     *
+     * @param month The month in query.
+     * @return String message for the list of shows that are scheduled for the month in query.
+     */
+    public String listShow(YearMonth month) {
+        OPTIXLOGGER.log(Level.INFO, "listing show by month:" + month.toString());
+        ShowSnapshot listing = shows.snapshot().month(month);
+        this.setShowsGui(listing);
+        return listShows(listing);
+    }
+
+    /**
+     * Build the listing from the snapshot it was taken from, never from the snapshot shown on the GUI,
+     * which another client listing at the same time may have replaced.
+     */
+    private String listShows(ShowSnapshot listing) {
         StringBuilder message = new StringBuilder();
         int counter = 1;
-        for (Map.Entry<LocalDate, Theatre> entry : showsGui.entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : listing.entrySet()) {
             String date = new OptixDateFormatter().toStringDate(entry.getKey());
             String showName = entry.getValue().getShowName();
             message.append(String.format("%d. %s (on: %s)\n", counter, showName, date));
@@ -145,6 +379,64 @@ public class Model {
         return message.toString();
     }
 
+    /**
+     * Get the names of scheduled and archived shows that start with the query,
+     * followed by the names that are a few typos away from it.
+     *
+     * @param query The show name to search for.
+     * @return list of matching show names without duplicates.
+     */
+    public List<String> findShowNames(String query) {
+        OPTIXLOGGER.log(Level.INFO, "finding show names matching: " + query);
+        Map<String, String> matches = new LinkedHashMap<>();
+        int maxEdits = getMaxEdits(query);
+        return readSchedule(() -> {
+            for (ShowMap showMap : new ShowMap[]{shows, showsHistory}) {
+                for (String showName : showMap.findShowNamesByPrefix(query, MAX_SUGGESTIONS)) {
+                    matches.putIfAbsent(Show.normalizeName(showName), showName);
+                }
+            }
+            for (ShowMap showMap : new ShowMap[]{shows, showsHistory}) {
+                for (String showName : showMap.findSimilarShowNames(query, maxEdits)) {
+                    matches.putIfAbsent(Show.normalizeName(showName), showName);
+                }
+            }
+            return new ArrayList<>(matches.values());
+        });
+    }
+
+    /**
+     * Get the names of scheduled and archived shows that start with the prefix. Used for autocomplete.
+     *
+     * @param prefix The start of the show name.
+     * @return list of show names without duplicates.
+     */
+    public List<String> completeShowName(String prefix) {
+        Map<String, String> matches = new LinkedHashMap<>();
+        return readSchedule(() -> {
+            for (ShowMap showMap : new ShowMap[]{shows, showsHistory}) {
+                for (String showName : showMap.findShowNamesByPrefix(prefix, MAX_SUGGESTIONS)) {
+                    matches.putIfAbsent(Show.normalizeName(showName), showName);
+                }
+            }
+            return new ArrayList<>(matches.values());
+        });
+    }
+
+    /**
+     * Get the number of typos tolerated for the query. Short names tolerate fewer typos
+     * so that they do not match every other short name.
+     */
+    private int getMaxEdits(String query) {
+        if (query.length() <= 3) {
+            return 0;
+        } else if (query.length() <= 6) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
     public String listShowHistory() {
         this.setShowsGui(showsHistory);
         return showsHistory.listShow();
@@ -155,41 +447,53 @@ public class Model {
         return shows.listFinance();
     }
 
+    /**
+     * Calculates the earnings for a certain month. Months before the current month are read from the archive,
+     * months after it from the schedule, and the current month from both.
+     *
+     * @param month     The month in query.
+     * @param thisMonth The current month.
+     * @return A message String that contains the profit to show to the user.
+     */
+    public String findMonthly(YearMonth month, YearMonth thisMonth) {
+        if (month.isBefore(thisMonth)) {
+            return findMonthly(month, showsHistory);
+        } else if (month.isAfter(thisMonth)) {
+            return findMonthly(month, shows);
+        } else {
+            return findMonthly(month, showsHistory, shows);
+        }
+    }
+
     /**
      * Calculates the earnings for a certain month from the Optix file.
      *
-     * @param mth        The month in numerical form.
-     * @param yr         The year.
+     * @param month      The month in query.
      * @param showsQuery shows, showsHistory or both. Contains all the shows from these ShowMaps
      * @return A message String that contains the profit to show to the user.
      */
-    public String findMonthly(int mth, int yr, ShowMap... showsQuery) {
-        OPTIXLOGGER.log(Level.INFO, String.format("calculating earnings for month %s of year %s", mth, yr));
+    private String findMonthly(YearMonth month, ShowMap... showsQuery) {
+        OPTIXLOGGER.log(Level.INFO, String.format("calculating earnings for month %s", month));
         StringBuilder message = new StringBuilder();
-        double profit = 0;
-        double projectedProfit = 0.0;
+        long profit = 0;
+        long projectedProfit = 0;
+        int showCount = 0;
 
-        int searchMonth;
-        int searchYear;
-        ShowMap showsWanted = new ShowMap();
-        String monthYear = formatter.intToMonth(mth) + " " + yr;
+        String monthYear = formatter.intToMonth(month.getMonthValue()) + " " + month.getYear();
+        ShowSnapshot monthShows = ShowSnapshot.EMPTY;
         for (int i = 0; i < showsQuery.length; i++) { //maximum 2
-            for (Map.Entry<LocalDate, Theatre> entry : showsQuery[i].entrySet()) {
-                searchMonth = entry.getKey().getMonthValue();
-                searchYear = entry.getKey().getYear();
-                if (searchMonth == mth && searchYear == yr) { //show matches query date
-                    showsWanted.put(entry.getKey(), entry.getValue());
-                    if (i == 1) { // if the query is the current month
-                        projectedProfit += entry.getValue().getProfit();
-                    } else {
-                        profit += entry.getValue().getProfit();
-                    }
-                }
+            monthShows = showsQuery[i].snapshot().month(month);
+            showCount += monthShows.size();
+            if (i == 1) { // if the query is the current month
+                projectedProfit += showsQuery[i].getMonthlyProfit(month);
+            } else {
+                profit += showsQuery[i].getMonthlyProfit(month);
             }
         }
+        this.setShowsGui(monthShows);
 
         if (profit == 0) {
-            if (showsWanted.isEmpty()) {
+            if (showCount == 0) {
                 message.append(String.format("☹ OOPS!!! There are no shows in %1$s.\n", monthYear));
             } else {
                 message.append(String.format("None of the seats for the shows in %1$s has been sold yet!\n",
@@ -197,53 +501,214 @@ public class Model {
             }
         } else {
             if (showsQuery.length == 2) { // query is for current month
-                message.append(String.format("The current earnings for %1$s is $%2$.2f.\n", monthYear, profit));
+                message.append(String.format("The current earnings for %1$s is $%2$s.\n", monthYear,
+                        Money.format(profit)));
                 if (projectedProfit > 0) {
-                    message.append(String.format("The projected earnings for the rest of the month is $%1$.2f.\n",
-                            projectedProfit));
+                    message.append(String.format("The projected earnings for the rest of the month is $%1$s.\n",
+                            Money.format(projectedProfit)));
                 }
             } else { //either from ShowMap or ShowHistoryMap
-                if (showsQuery[0].equals(shows)) {
-                    message.append(String.format("The projected earnings for %1$s is $%2$.2f.\n", monthYear,
-                            profit));
+                if (showsQuery[0] == shows) {
+                    message.append(String.format("The projected earnings for %1$s is $%2$s.\n", monthYear,
+                            Money.format(profit)));
                 } else {
-                    message.append(String.format("The earnings for %1$s is $%2$.2f.\n", monthYear, profit));
+                    message.append(String.format("The earnings for %1$s is $%2$s.\n", monthYear,
+                            Money.format(profit)));
                 }
             }
         }
         return message.toString();
     }
 
+    /**
+     * Calculates the earnings from one date to another, both inclusive.
+     * Earnings of archived shows are taken as actual earnings, those of scheduled shows as projected earnings.
+     * Read under the schedule lock, as adding a show may grow the daily revenue totals.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return A message String that contains the earnings to show to the user.
+     */
+    public String findRevenue(LocalDate from, LocalDate to) {
+        OPTIXLOGGER.log(Level.INFO, "calculating earnings from " + from.toString() + " to " + to.toString());
+        long[] profits = readSchedule(() -> new long[]{showsHistory.getProfit(from, to), shows.getProfit(from, to)});
+        long profit = profits[0];
+        long projectedProfit = profits[1];
+        String fromDate = formatter.toStringDate(from);
+        String toDate = formatter.toStringDate(to);
+
+        StringBuilder message = new StringBuilder(String.format("The earnings from %1$s to %2$s is $%3$s.\n",
+                fromDate, toDate, Money.format(profit)));
+        if (projectedProfit > 0) {
+            message.append(String.format("The projected earnings for the rest of the period is $%1$s.\n",
+                    Money.format(projectedProfit)));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Compiles a report of the earnings from one date to another, both inclusive, with the earnings of each show
+     * and of each month. The archive and the schedule are compiled side by side from snapshots, without locking.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return A message String that contains the report to show to the user.
+     */
+    public String findReport(LocalDate from, LocalDate to) {
+        OPTIXLOGGER.log(Level.INFO, "compiling report from " + from.toString() + " to " + to.toString());
+        LocalDate toExclusive = to.plusDays(1);
+        List<FinanceReport> reports = FinanceReport.of(List.of(showsHistory.snapshot().range(from, toExclusive),
+                shows.snapshot().range(from, toExclusive)));
+        FinanceReport earned = reports.get(0);
+        FinanceReport projected = reports.get(1);
+        FinanceReport report = earned.merge(projected);
+        String fromDate = formatter.toStringDate(from);
+        String toDate = formatter.toStringDate(to);
+
+        if (report.getShowCount() == 0) {
+            return String.format("☹ OOPS!!! There are no shows from %1$s to %2$s.\n", fromDate, toDate);
+        }
+        StringBuilder message = new StringBuilder(String.format("The earnings from %1$s to %2$s is $%3$s.\n",
+                fromDate, toDate, Money.format(earned.getTotal())));
+        if (projected.getShowCount() > 0) {
+            message.append(String.format("The projected earnings for the rest of the period is $%1$s.\n",
+                    Money.format(projected.getTotal())));
+        }
+        message.append("Earnings by show:\n");
+        int counter = 1;
+        for (Map.Entry<String, Long> showTotal : report.getShowTotals().entrySet()) {
+            message.append(String.format("%d. %s: $%s\n", counter, showTotal.getKey(), Money.format(showTotal.getValue())));
+            counter++;
+        }
+        message.append("Earnings by month:\n");
+        for (Map.Entry<YearMonth, Long> monthTotal : report.getMonthlyTotals().entrySet()) {
+            YearMonth month = monthTotal.getKey();
+            message.append(String.format("%s %d: $%s\n", formatter.intToMonth(month.getMonthValue()), month.getYear(),
+                    Money.format(monthTotal.getValue())));
+        }
+        return message.toString();
+    }
+
     /**
      * Method to delete a show from "shows" ShowMap.
      * @param showDate date of show to delete
      */
     public void deleteShow(LocalDate showDate) {
         OPTIXLOGGER.log(Level.INFO, "Deleting show");
-        shows.deleteShow(showDate);
+        writeSchedule(List.of(showDate), () -> shows.deleteShow(showDate));
         this.setShowsGui(shows);
     }
 
     //// Commands that deals with Seats.
 
     public String viewSeats(LocalDate localDate) {
-        return shows.viewSeats(localDate);
+        return viewShow(localDate, () -> shows.viewSeats(localDate));
+    }
+
+    /**
+     * Get the publisher of the changes to the seats of the show on the given date.
+     * The publisher stays with the show if it is rescheduled.
+     *
+     * @param localDate The date of the show.
+     * @return the publisher of seat deltas, or null if there is no show on the date.
+     */
+    public Flow.Publisher<SeatDelta> getSeatChanges(LocalDate localDate) {
+        Theatre theatre = viewShow(localDate, () -> shows.get(localDate));
+        return theatre == null ? null : theatre.getSeatChanges();
     }
 
     public String sellSeats(LocalDate localDate, String... seats) {
-        return shows.sellSeats(localDate, seats);
+        return readShow(localDate, () -> shows.sellSeats(localDate, seats));
+    }
+
+    /**
+     * Sell seats for the show on the given date, including the seats held for the customer.
+     *
+     * @param localDate The date of the show.
+     * @param holdId    The hold number given to the customer, or 0 if they have none.
+     * @param seats     The seats to sell.
+     * @return Message detailing the status of the seats.
+     */
+    public String sellSeats(LocalDate localDate, long holdId, String... seats) {
+        return readShow(localDate, () -> shows.sellSeats(localDate, holdId, seats));
+    }
+
+    public String sellBestSeats(LocalDate localDate, int numberOfSeats, SeatTier tier) {
+        return changeSeats(localDate, () -> shows.sellBestSeats(localDate, numberOfSeats, tier));
+    }
+
+    /**
+     * Hold seats for the show on the given date. The hold lapses after the given number of minutes
+     * unless the seats are sold before then. Lapsed holds are released within a tick, without waiting for a command.
+     *
+     * @param localDate   The date of the show.
+     * @param holdMinutes The number of minutes to hold the seats for.
+     * @param seats       The seats to hold.
+     * @return Message detailing the status of the seats.
+     * @throws ArithmeticException if the hold would lapse too far in the future to be timed.
+     */
+    public String holdSeats(LocalDate localDate, long holdMinutes, String... seats) {
+        long expiryMillis = Math.addExact(clock.millis(), Math.multiplyExact(holdMinutes, 60_000L));
+        long holdId = nextHoldId.getAndIncrement();
+        String message = readShow(localDate, () -> {
+            Theatre theatre = shows.get(localDate);
+            if (theatre == null) {
+                return MESSAGE_SHOW_NOT_FOUND;
+            }
+            String holdMessage = theatre.holdSeats(holdId, holdMinutes, seats);
+            String[] seatsHeld = theatre.getHeldSeats(holdId, seats);
+            if (seatsHeld.length > 0) {
+                seatHolds.schedule(theatre, holdId, seatsHeld, expiryMillis);
+            }
+            return holdMessage;
+        });
+        startHoldTicker();
+        return message;
+    }
+
+    private synchronized void startHoldTicker() {
+        if (holdTicker != null || seatHolds.size() == 0) {
+            return;
+        }
+        holdTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "optix-hold-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        holdTicker.scheduleAtFixedRate(() -> {
+            try {
+                releaseLapsedHolds();
+            } catch (RuntimeException e) {
+                OPTIXLOGGER.log(Level.WARNING, "error releasing lapsed seat holds", e);
+            }
+        }, HOLD_TICK_MILLIS, HOLD_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Release the seats of all holds that have lapsed. Run once a tick while there are holds.
+     */
+    public void releaseLapsedHolds() {
+        int released = readSchedule(() -> seatHolds.advance(clock.millis()));
+        if (released > 0) {
+            OPTIXLOGGER.log(Level.INFO, "released " + released + " lapsed seat holds");
+        }
+    }
+
+    public String commitSeatTransaction(SeatTransaction transaction) {
+        return monthLocks.read(transaction.getShowDates(), () -> showLocks.withLocks(transaction.getShowDates(),
+            () -> shows.commitSeatTransaction(transaction)));
     }
 
     public String reassignSeat(LocalDate showlocalDate, String oldSeat, String newSeat) {
-        return shows.reassignSeat(showlocalDate, oldSeat, newSeat);
+        return changeSeats(showlocalDate, () -> shows.reassignSeat(showlocalDate, oldSeat, newSeat));
     }
 
     public String removeSeats(LocalDate localDate, String... seats) {
-        return shows.removeSeats(localDate, seats);
+        return readShow(localDate, () -> shows.removeSeats(localDate, seats));
     }
 
     public String refundSeats(LocalDate localDate, String... seats) {
-        return shows.refundSeats(localDate, seats);
+        return readShow(localDate, () -> shows.refundSeats(localDate, seats));
     }
 
     private void initLogger() {
@@ -2,7 +2,10 @@ package optix.commons;
 
 import optix.commons.model.Seat;
 import optix.commons.model.ShowMap;
+import optix.commons.model.ShowSnapshot;
 import optix.commons.model.Theatre;
+import optix.commons.model.TierPricing;
+import optix.util.Money;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -11,12 +14,18 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class Storage {
     private File archiveFilePath;
     private File showMapFilePath;
     private LocalDate today;
+    // while a batch of writes is open, the shows to write once it closes, or null if nothing has been written.
+    private boolean isBatchingWrites;
+    private ShowMap pendingWrite;
 
     /**
      * Initialise a new storage object.
@@ -52,22 +61,30 @@ public class Storage {
             BufferedReader br = new BufferedReader(rd);
 
             String message;
+            Map<Integer, String> showNames = new HashMap<>();
 
             while ((message = br.readLine()) != null) {
                 String[] arrStr = message.split(" \\| ");
 
-                if (arrStr[0].toLowerCase().equals("s")) {
+                if (arrStr[0].toLowerCase().equals("n")) {
+                    loadShowName(arrStr, showNames);
+                } else if (arrStr[0].toLowerCase().equals("c")) {
+                    shows.setChangeoverDays(Integer.parseInt(arrStr[1].trim()));
+                } else if (arrStr[0].toLowerCase().equals("p")) {
+                    shows.setSurcharges(arrStr[1].trim().equals("on"));
+                } else if (arrStr[0].toLowerCase().equals("s")) {
                     LocalDate date = localDate(arrStr[1]);
-                    String showName = arrStr[2].trim();
-                    double revenue = Double.parseDouble(arrStr[3]);
-                    double seatBasePrice = Double.parseDouble(arrStr[4]);
+                    String showName = getShowName(arrStr[2], showNames);
+                    long revenue = Money.parse(arrStr[3]);
+                    long seatBasePrice = Money.parse(arrStr[4]);
+                    TierPricing pricing = arrStr.length > 5 ? TierPricing.parse(arrStr[5]) : TierPricing.DEFAULT;
 
                     if (date.compareTo(today) <= 0) {
                         showsHistory.addShowHistory(date, showName, revenue);
                         continue;
                     }
 
-                    Theatre theatre = new Theatre(showName, revenue, seatBasePrice);
+                    Theatre theatre = new Theatre(showName, revenue, seatBasePrice, pricing);
                     loadSeat(br, theatre);
                     shows.put(date, theatre);
                 }
@@ -96,7 +113,11 @@ public class Storage {
             int row = Integer.parseInt(arrStr[0].trim());
             int col = Integer.parseInt(arrStr[1].trim());
 
-            theatre.setSeat(row, col);
+            if (arrStr.length > 2) {
+                theatre.setSeat(row, col, Money.parse(arrStr[2]));
+            } else {
+                theatre.setSeat(row, col);
+            }
         }
 
         return theatre;
@@ -113,13 +134,19 @@ public class Storage {
             BufferedReader br = new BufferedReader(rd);
 
             String message;
+            Map<Integer, String> showNames = new HashMap<>();
 
             while ((message = br.readLine()) != null) {
                 String[] arrStr = message.split(" \\| ");
 
+                if (arrStr[0].toLowerCase().equals("n")) {
+                    loadShowName(arrStr, showNames);
+                    continue;
+                }
+
                 LocalDate date = localDate(arrStr[0]);
-                String showName = arrStr[1].trim();
-                double revenue = Double.parseDouble(arrStr[2]);
+                String showName = getShowName(arrStr[1], showNames);
+                long revenue = Money.parse(arrStr[2]);
 
                 showsHistory.addShowHistory(date, showName, revenue);
             }
@@ -132,23 +159,54 @@ public class Storage {
         }
     }
 
+    /**
+     * Start a batch of writes. Writes to the save file are held back until the batch ends,
+     * so that many changes in a row are saved with one write.
+     */
+    public synchronized void beginBatch() {
+        isBatchingWrites = true;
+    }
+
+    /**
+     * End a batch of writes, writing the save file once if anything was written during the batch.
+     */
+    public synchronized void endBatch() {
+        isBatchingWrites = false;
+        if (pendingWrite != null) {
+            write(pendingWrite);
+            pendingWrite = null;
+        }
+    }
+
     /**
      * write to the save file.
-     * Deletes the old file and writes a new file.
+     * Deletes the old file and writes a new file. Held back until the end of the batch while a batch is open.
      *
      * @param shows ShowMap of shows.
      */
-    public void write(ShowMap shows) {
+    public synchronized void write(ShowMap shows) {
+        if (isBatchingWrites) {
+            pendingWrite = shows;
+            return;
+        }
         try {
             showMapFilePath.delete();
             showMapFilePath.createNewFile();
             FileWriter wr = new FileWriter(showMapFilePath, true);
 
-            for (Map.Entry<LocalDate, Theatre> entry : shows.entrySet()) {
+            if (shows.getChangeoverDays() != 0) {
+                wr.write(String.format("C | %d\n", shows.getChangeoverDays()));
+            }
+            if (shows.hasSurcharges()) {
+                wr.write("P | on\n");
+            }
+            ShowSnapshot snapshot = shows.snapshot();
+            writeShowNames(wr, snapshot);
+            for (Map.Entry<LocalDate, Theatre> entry : snapshot.entrySet()) {
                 Theatre theatre = entry.getValue();
                 LocalDate date = entry.getKey();
 
-                wr.write(String.format("S | %s | %s", date, theatre.writeToFile()));
+                wr.write(String.format("S | %s | %s", date, theatre.writeToFileById()));
 
                 writeSeats(wr, theatre);
             }
@@ -164,7 +222,7 @@ public class Storage {
         for (int i = 0; i < seats.length; i++) {
             for (int j = 0; j < seats[i].length; j++) {
                 if (seats[i][j].isSold()) {
-                    wr.write(String.format("%d | %d\n", i, j));
+                    wr.write(String.format("%d | %d | %s\n", i, j, Money.format(seats[i][j].getPricePaid())));
                 }
             }
         }
@@ -176,17 +234,19 @@ public class Storage {
      *
      * @param showsHistory Map of shows.
      */
-    public void writeArchive(ShowMap showsHistory) {
+    public synchronized void writeArchive(ShowMap showsHistory) {
         try {
             archiveFilePath.delete();
             archiveFilePath.createNewFile();
             FileWriter wr = new FileWriter(archiveFilePath, true);
 
-            for (Map.Entry<LocalDate, Theatre> entry : showsHistory.entrySet()) {
+            ShowSnapshot snapshot = showsHistory.snapshot();
+            writeShowNames(wr, snapshot);
+            for (Map.Entry<LocalDate, Theatre> entry : snapshot.entrySet()) {
                 Theatre theatre = entry.getValue();
                 LocalDate date = entry.getKey();
 
-                wr.write(String.format("%s | %s | %s\n", date, theatre.getShowName(), theatre.getProfit()));
+                wr.write(String.format("%s | #%d | %s\n", date, theatre.getShowNameId(), Money.format(theatre.getProfit())));
             }
             wr.close();
         } catch (IOException e) {
@@ -194,6 +254,47 @@ public class Storage {
         }
     }
 
+    /**
+     * Write the names of the shows once each, so that show entries can refer to them by id.
+     *
+     * @param wr    file writer
+     * @param shows snapshot of shows.
+     * @throws IOException when file writer has problems with write().
+     */
+    private void writeShowNames(FileWriter wr, ShowSnapshot shows) throws IOException {
+        Set<Integer> showNameIds = new HashSet<>();
+        for (Theatre theatre : shows.values()) {
+            if (showNameIds.add(theatre.getShowNameId())) {
+                wr.write(String.format("N | %d | %s\n", theatre.getShowNameId(), theatre.getShowName()));
+            }
+        }
+    }
+
+    /**
+     * Load a show name entry of format "N | SHOW_NAME_ID | SHOW_NAME".
+     */
+    private void loadShowName(String[] arrStr, Map<Integer, String> showNames) {
+        showNames.put(Integer.parseInt(arrStr[1].trim()), arrStr[2].trim());
+    }
+
+    /**
+     * Get the show name of a show entry. Older save files have the name itself instead of "#SHOW_NAME_ID".
+     */
+    private String getShowName(String showNameField, Map<Integer, String> showNames) {
+        String field = showNameField.trim();
+        if (field.startsWith("#")) {
+            try {
+                String showName = showNames.get(Integer.parseInt(field.substring(1)));
+                if (showName != null) {
+                    return showName;
+                }
+            } catch (NumberFormatException e) {
+                // the show name starts with '#'.
+            }
+        }
+        return field;
+    }
+
     private LocalDate localDate(String date) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         return LocalDate.parse(date, formatter);
@@ -0,0 +1,151 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Earnings of a set of shows in total, by show name and by month.
+ * Reports are compiled on the common fork-join pool: the shows are split into ranges that are summed side by side,
+ * and the partial reports are merged afterwards, so large reports finish faster on more cores.
+ */
+public class FinanceReport {
+    // a range of shows is summed on one thread once it has no more than this many shows.
+    private static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private final long total;
+    private final int showCount;
+    private final Map<String, Long> showTotals;
+    private final NavigableMap<YearMonth, Long> monthlyTotals;
+
+    private FinanceReport(long total, int showCount, Map<String, Long> showTotals,
+                          NavigableMap<YearMonth, Long> monthlyTotals) {
+        this.total = total;
+        this.showCount = showCount;
+        this.showTotals = showTotals;
+        this.monthlyTotals = monthlyTotals;
+    }
+
+    /**
+     * Compile the report of each partition of shows, e.g. the archive and the schedule. All partitions are
+     * compiled at the same time. The partitions must not change while the reports are compiled.
+     *
+     * @param partitions shows by date.
+     * @return the report of each partition, in the same order.
+     */
+    public static List<FinanceReport> of(List<? extends Map<LocalDate, Theatre>> partitions) {
+        List<ReportTask> tasks = new ArrayList<>();
+        for (Map<LocalDate, Theatre> partition : partitions) {
+            LocalDate[] showDates = new LocalDate[partition.size()];
+            Theatre[] theatres = new Theatre[partition.size()];
+            int i = 0;
+            for (Map.Entry<LocalDate, Theatre> entry : partition.entrySet()) {
+                showDates[i] = entry.getKey();
+                theatres[i] = entry.getValue();
+                i++;
+            }
+            tasks.add(new ReportTask(showDates, theatres, 0, showDates.length));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+        List<FinanceReport> reports = new ArrayList<>();
+        for (ReportTask task : tasks) {
+            reports.add(task.join());
+        }
+        return reports;
+    }
+
+    /**
+     * Merge this report with another report of different shows.
+     *
+     * @param other report of other shows.
+     * @return report of the shows of both reports.
+     */
+    public FinanceReport merge(FinanceReport other) {
+        Map<String, Long> mergedShowTotals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        mergedShowTotals.putAll(showTotals);
+        other.showTotals.forEach((showName, showTotal) -> mergedShowTotals.merge(showName, showTotal, Long::sum));
+        NavigableMap<YearMonth, Long> mergedMonthlyTotals = new TreeMap<>(monthlyTotals);
+        other.monthlyTotals.forEach((month, monthTotal) -> mergedMonthlyTotals.merge(month, monthTotal, Long::sum));
+        return new FinanceReport(total + other.total, showCount + other.showCount,
+                Collections.unmodifiableMap(mergedShowTotals), Collections.unmodifiableNavigableMap(mergedMonthlyTotals));
+    }
+
+    /**
+     * Get the total earnings in cents of the shows.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public int getShowCount() {
+        return showCount;
+    }
+
+    /**
+     * Get the earnings in cents of each show, by the name of the show. Show names are not case sensitive.
+     */
+    public Map<String, Long> getShowTotals() {
+        return showTotals;
+    }
+
+    /**
+     * Get the earnings in cents of the shows in each month that has shows, from the earliest month.
+     */
+    public NavigableMap<YearMonth, Long> getMonthlyTotals() {
+        return monthlyTotals;
+    }
+
+    /**
+     * Sums a range of shows, splitting it in two while it is too large to sum on one thread.
+     */
+    private static class ReportTask extends RecursiveTask<FinanceReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final LocalDate[] showDates;
+        private final Theatre[] theatres;
+        private final int from;
+        private final int to;
+
+        private ReportTask(LocalDate[] showDates, Theatre[] theatres, int from, int to) {
+            this.showDates = showDates;
+            this.theatres = theatres;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected FinanceReport compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ReportTask left = new ReportTask(showDates, theatres, from, middle);
+                left.fork();
+                FinanceReport right = new ReportTask(showDates, theatres, middle, to).compute();
+                return left.join().merge(right);
+            }
+            long total = 0;
+            Map<String, Long> showTotals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            NavigableMap<YearMonth, Long> monthlyTotals = new TreeMap<>();
+            for (int i = from; i < to; i++) {
+                long profit = theatres[i].getProfit();
+                total += profit;
+                showTotals.merge(theatres[i].getShowName(), profit, Long::sum);
+                monthlyTotals.merge(YearMonth.from(showDates[i]), profit, Long::sum);
+            }
+            return new FinanceReport(total, to - from, Collections.unmodifiableMap(showTotals),
+                    Collections.unmodifiableNavigableMap(monthlyTotals));
+        }
+    }
+}
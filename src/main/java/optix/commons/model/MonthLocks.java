@@ -0,0 +1,166 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks guarding the shows of each month of the schedule. The month of a show picks one of a fixed number
+ * of locks, so the locks take the same memory however many months the schedule has ever covered.
+ * Consecutive months always get different locks, so sales and views in nearby months never touch the same lock,
+ * while changes to the schedule lock every month they change. Views read under an optimistic stamp and only take
+ * the lock for reading if the month changed while they ran, so views never hold up sales.
+ * The locks of several months are always taken in the order of their stripes, so two actions over overlapping months
+ * cannot deadlock. The locks are not reentrant.
+ */
+public class MonthLocks {
+    private static final int NUMBER_OF_STRIPES = 64;
+
+    private final StampedLock[] stripes = new StampedLock[NUMBER_OF_STRIPES];
+
+    public MonthLocks() {
+        for (int i = 0; i < NUMBER_OF_STRIPES; i++) {
+            stripes[i] = new StampedLock();
+        }
+    }
+
+    private static int stripeOf(YearMonth month) {
+        return (int) Math.floorMod(month.getYear() * 12L + month.getMonthValue() - 1, (long) NUMBER_OF_STRIPES);
+    }
+
+    /**
+     * Run a view of the shows in a range of dates without locking, as long as no change is made to those months
+     * while it runs. Otherwise the view is run again under the locks of the months. The view must only read
+     * state that is safe to read while it is being changed.
+     *
+     * @param from the first date the view reads.
+     * @param to   the last date the view reads.
+     * @param view The view.
+     * @return the result of the view.
+     */
+    public <T> T view(LocalDate from, LocalDate to, Supplier<T> view) {
+        TreeSet<Integer> monthStripes = stripesBetween(from, to);
+        long[] stamps = new long[monthStripes.size()];
+        int i = 0;
+        for (int stripe : monthStripes) {
+            stamps[i] = stripes[stripe].tryOptimisticRead();
+            if (stamps[i] == 0) {
+                return read(monthStripes, view);
+            }
+            i++;
+        }
+        try {
+            T result = view.get();
+            if (validate(monthStripes, stamps)) {
+                return result;
+            }
+        } catch (RuntimeException e) {
+            // a view racing with a change may see a half-made change; only a view of a stable month may fail.
+            if (validate(monthStripes, stamps)) {
+                throw e;
+            }
+        }
+        return read(monthStripes, view);
+    }
+
+    private boolean validate(TreeSet<Integer> monthStripes, long[] stamps) {
+        int i = 0;
+        for (int stripe : monthStripes) {
+            if (!stripes[stripe].validate(stamps[i])) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Run an action on a show while no change is being made to its month. Actions on the same month may run at once.
+     *
+     * @param showDate The date of the show.
+     * @param action   The action.
+     * @return the result of the action.
+     */
+    public <T> T read(LocalDate showDate, Supplier<T> action) {
+        StampedLock lock = stripes[stripeOf(YearMonth.from(showDate))];
+        long stamp = lock.readLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Run an action on several shows while no change is being made to their months.
+     *
+     * @param showDates The dates of the shows.
+     * @param action    The action.
+     * @return the result of the action.
+     */
+    public <T> T read(Collection<LocalDate> showDates, Supplier<T> action) {
+        return read(stripesOf(showDates), action);
+    }
+
+    private <T> T read(TreeSet<Integer> monthStripes, Supplier<T> action) {
+        long[] stamps = new long[monthStripes.size()];
+        int i = 0;
+        for (int stripe : monthStripes) {
+            stamps[i++] = stripes[stripe].readLock();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int stripe : monthStripes.descendingSet()) {
+                stripes[stripe].unlockRead(stamps[--i]);
+            }
+        }
+    }
+
+    /**
+     * Change the shows on the given dates while no other thread is using their months.
+     *
+     * @param showDates The dates of the shows.
+     * @param change    The change.
+     * @return the result of the change.
+     */
+    public <T> T write(Collection<LocalDate> showDates, Supplier<T> change) {
+        TreeSet<Integer> monthStripes = stripesOf(showDates);
+        long[] stamps = new long[monthStripes.size()];
+        int i = 0;
+        for (int stripe : monthStripes) {
+            stamps[i++] = stripes[stripe].writeLock();
+        }
+        try {
+            return change.get();
+        } finally {
+            for (int stripe : monthStripes.descendingSet()) {
+                stripes[stripe].unlockWrite(stamps[--i]);
+            }
+        }
+    }
+
+    /**
+     * Get the stripes of the months of the dates, without duplicates as the locks are not reentrant.
+     */
+    private static TreeSet<Integer> stripesOf(Collection<LocalDate> showDates) {
+        TreeSet<Integer> monthStripes = new TreeSet<>();
+        for (LocalDate showDate : showDates) {
+            monthStripes.add(stripeOf(YearMonth.from(showDate)));
+        }
+        return monthStripes;
+    }
+
+    private static TreeSet<Integer> stripesBetween(LocalDate from, LocalDate to) {
+        TreeSet<Integer> monthStripes = new TreeSet<>();
+        YearMonth last = YearMonth.from(to);
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(last) && monthStripes.size() < NUMBER_OF_STRIPES;
+                month = month.plusMonths(1)) {
+            monthStripes.add(stripeOf(month));
+        }
+        return monthStripes;
+    }
+}
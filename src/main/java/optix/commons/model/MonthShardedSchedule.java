@@ -0,0 +1,180 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shows by date, kept in one ConcurrentSkipListMap for each month. Shows may be looked up, added and removed
+ * from several threads at once, and threads working on different months never touch the same shard.
+ * Iteration goes through the months in calendar order and is weakly consistent, like the shards themselves.
+ * Range queries only visit the months in the range. A shard is dropped once its last show is removed,
+ * so adding and removing shows of the same month must not run at the same time.
+ */
+public class MonthShardedSchedule extends AbstractMap<LocalDate, Theatre> {
+    private final ConcurrentSkipListMap<YearMonth, ConcurrentSkipListMap<LocalDate, Theatre>> shards =
+            new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private ConcurrentSkipListMap<LocalDate, Theatre> shardOf(LocalDate showDate) {
+        return shards.get(YearMonth.from(showDate));
+    }
+
+    @Override
+    public Theatre get(Object key) {
+        if (!(key instanceof LocalDate)) {
+            return null;
+        }
+        ConcurrentSkipListMap<LocalDate, Theatre> shard = shardOf((LocalDate) key);
+        return shard == null ? null : shard.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Theatre put(LocalDate showDate, Theatre theatre) {
+        Objects.requireNonNull(theatre);
+        Theatre previous = shards.computeIfAbsent(YearMonth.from(showDate), month -> new ConcurrentSkipListMap<>())
+                .put(showDate, theatre);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        return previous;
+    }
+
+    @Override
+    public Theatre remove(Object key) {
+        if (!(key instanceof LocalDate)) {
+            return null;
+        }
+        YearMonth month = YearMonth.from((LocalDate) key);
+        ConcurrentSkipListMap<LocalDate, Theatre> shard = shards.get(month);
+        Theatre removed = shard == null ? null : shard.remove(key);
+        if (removed != null) {
+            size.decrementAndGet();
+            if (shard.isEmpty()) {
+                shards.remove(month, shard);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every show. Must not run alongside any other change.
+     */
+    @Override
+    public void clear() {
+        shards.clear();
+        size.set(0);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Get the number of months that have shows.
+     *
+     * @return number of shards.
+     */
+    public int getMonthCount() {
+        return shards.size();
+    }
+
+    /**
+     * Get the shows from one date up to, but not including, another. Only the shards of the months in the range are read.
+     *
+     * @param from        first date of the range.
+     * @param toExclusive the day after the last date of the range.
+     * @return copy of the shows in the range, in calendar order.
+     */
+    public NavigableMap<LocalDate, Theatre> range(LocalDate from, LocalDate toExclusive) {
+        NavigableMap<LocalDate, Theatre> shows = new TreeMap<>();
+        if (!from.isBefore(toExclusive)) {
+            return shows;
+        }
+        for (ConcurrentSkipListMap<LocalDate, Theatre> shard
+                : shards.subMap(YearMonth.from(from), true, YearMonth.from(toExclusive.minusDays(1)), true).values()) {
+            shows.putAll(shard.subMap(from, true, toExclusive, false));
+        }
+        return Collections.unmodifiableNavigableMap(shows);
+    }
+
+    /**
+     * Get a copy of the shows of a month.
+     *
+     * @param month the month.
+     * @return copy of the shows of the month in date order, which is empty if the month has no shows.
+     */
+    protected NavigableMap<LocalDate, Theatre> copyOfMonth(YearMonth month) {
+        ConcurrentSkipListMap<LocalDate, Theatre> shard = shards.get(month);
+        return shard == null ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(new TreeMap<>(shard));
+    }
+
+    @Override
+    public Set<Entry<LocalDate, Theatre>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<LocalDate, Theatre>> iterator() {
+                return new ShardIterator();
+            }
+
+            @Override
+            public int size() {
+                return MonthShardedSchedule.this.size();
+            }
+        };
+    }
+
+    /**
+     * Goes through the shards in calendar order, and through the shows of each shard in date order.
+     */
+    private class ShardIterator implements Iterator<Entry<LocalDate, Theatre>> {
+        private final Iterator<ConcurrentSkipListMap<LocalDate, Theatre>> shardIterator = shards.values().iterator();
+        private Iterator<Entry<LocalDate, Theatre>> showIterator = Collections.emptyIterator();
+        private LocalDate lastDate;
+
+        @Override
+        public boolean hasNext() {
+            while (!showIterator.hasNext() && shardIterator.hasNext()) {
+                showIterator = shardIterator.next().entrySet().iterator();
+            }
+            return showIterator.hasNext();
+        }
+
+        @Override
+        public Entry<LocalDate, Theatre> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // entries of a ConcurrentSkipListMap are snapshots that cannot be changed.
+            Entry<LocalDate, Theatre> entry = showIterator.next();
+            lastDate = entry.getKey();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastDate == null) {
+                throw new IllegalStateException();
+            }
+            MonthShardedSchedule.this.remove(lastDate);
+            lastDate = null;
+        }
+    }
+}
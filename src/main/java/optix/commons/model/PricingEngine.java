@@ -0,0 +1,114 @@
+package optix.commons.model;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the current price of seats from pricing rules.
+ * The adjustments of all rules that apply add up. Occupancy rules are evaluated per tier,
+ * while rules on the days until the show and on sales velocity apply to the whole show,
+ * so that a Theatre only needs to reprice the tiers whose inputs have changed.
+ */
+public class PricingEngine {
+    public static final Duration SALES_WINDOW = Duration.ofDays(1);
+
+    /**
+     * Engine without rules, so seats always sell at the price of their tier.
+     */
+    public static final PricingEngine DEFAULT = new PricingEngine(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private final List<PricingRule> occupancyRules = new ArrayList<>();
+    private final List<PricingRule> showRules = new ArrayList<>();
+
+    /**
+     * Create a pricing engine.
+     *
+     * @param clock the clock used for the days until the show and the sales velocity.
+     * @param rules the pricing rules.
+     */
+    public PricingEngine(Clock clock, PricingRule... rules) {
+        this.clock = clock;
+        for (PricingRule rule : rules) {
+            if (rule.getCondition() == PricingRule.Condition.OCCUPANCY) {
+                occupancyRules.add(rule);
+            } else {
+                showRules.add(rule);
+            }
+        }
+    }
+
+    /**
+     * Create an engine that adds 10% to the price each when 75% and 90% of the seats in a tier are taken,
+     * when the show is 3 days away or less, and when 20 or more seats were sold in the last day.
+     *
+     * @param clock the clock used for the days until the show and the sales velocity.
+     * @return the pricing engine.
+     */
+    public static PricingEngine withSurcharges(Clock clock) {
+        return new PricingEngine(clock,
+                new PricingRule(PricingRule.Condition.OCCUPANCY, 75, 10),
+                new PricingRule(PricingRule.Condition.OCCUPANCY, 90, 10),
+                new PricingRule(PricingRule.Condition.DAYS_UNTIL_SHOW, 3, 10),
+                new PricingRule(PricingRule.Condition.SALES_IN_LAST_DAY, 20, 10));
+    }
+
+    public boolean hasRules() {
+        return !occupancyRules.isEmpty() || !showRules.isEmpty();
+    }
+
+    public long getCurrentMillis() {
+        return clock.millis();
+    }
+
+    public LocalDate getToday() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Get the adjustment for a tier from its occupancy.
+     *
+     * @param occupancyPercent percentage of seats in the tier that are sold or held.
+     * @return percentage of the tier price to add.
+     */
+    public int getOccupancyAdjustment(int occupancyPercent) {
+        int adjustment = 0;
+        for (PricingRule rule : occupancyRules) {
+            adjustment += rule.getAdjustment(occupancyPercent);
+        }
+        return adjustment;
+    }
+
+    /**
+     * Get the adjustment for every tier of a show.
+     *
+     * @param daysUntilShow number of days until the show, negative if unknown or passed.
+     * @param salesInLastDay number of seats of the show sold in the last day.
+     * @return percentage of the tier price to add.
+     */
+    public int getShowAdjustment(long daysUntilShow, int salesInLastDay) {
+        int adjustment = 0;
+        for (PricingRule rule : showRules) {
+            if (rule.getCondition() == PricingRule.Condition.DAYS_UNTIL_SHOW) {
+                adjustment += rule.getAdjustment(daysUntilShow);
+            } else {
+                adjustment += rule.getAdjustment(salesInLastDay);
+            }
+        }
+        return adjustment;
+    }
+
+    /**
+     * Apply an adjustment to a price, rounded to the nearest cent. Prices never go below zero.
+     *
+     * @param price      price in cents.
+     * @param adjustment percentage of the price to add.
+     * @return adjusted price in cents.
+     */
+    public static long adjust(long price, int adjustment) {
+        return Math.max(0, (price * (100 + adjustment) + 50) / 100);
+    }
+}
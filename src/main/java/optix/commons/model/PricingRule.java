@@ -0,0 +1,53 @@
+package optix.commons.model;
+
+/**
+ * A rule that raises (or, with a negative adjustment, lowers) the price of seats
+ * by a percentage of their tier price when its condition holds.
+ */
+public class PricingRule {
+    public enum Condition {
+        // the percentage of seats in the tier that are sold or held is at least the threshold.
+        OCCUPANCY,
+        // the show is at most the threshold number of days away.
+        DAYS_UNTIL_SHOW,
+        // at least the threshold number of seats of the show were sold in the last day.
+        SALES_IN_LAST_DAY
+    }
+
+    private final Condition condition;
+    private final int threshold;
+    private final int adjustment;
+
+    /**
+     * Create a pricing rule.
+     *
+     * @param condition  what the rule looks at.
+     * @param threshold  the value at which the rule starts to apply.
+     * @param adjustment percentage of the tier price added when the rule applies.
+     */
+    public PricingRule(Condition condition, int threshold, int adjustment) {
+        this.condition = condition;
+        this.threshold = threshold;
+        this.adjustment = adjustment;
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Get the adjustment of the rule for the given value of its condition.
+     *
+     * @param value occupancy percentage, days until the show or seats sold in the last day.
+     * @return percentage of the tier price to add, 0 if the rule does not apply.
+     */
+    public int getAdjustment(long value) {
+        boolean isApplied;
+        if (condition == Condition.DAYS_UNTIL_SHOW) {
+            isApplied = value >= 0 && value <= threshold;
+        } else {
+            isApplied = value >= threshold;
+        }
+        return isApplied ? adjustment : 0;
+    }
+}
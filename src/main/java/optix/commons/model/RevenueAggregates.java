@@ -0,0 +1,143 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running revenue totals in cents of a ShowMap by day, by month, by show name and by seat tier.
+ * Updated whenever a show is added, removed, renamed or has its seats changed,
+ * so that finance queries do not need to scan the ShowMap.
+ * Seat changes may update the totals from several threads at once, even for the same show.
+ * Adding and removing shows must not run alongside each other, or alongside seat changes of shows in the same month.
+ */
+public class RevenueAggregates {
+    // index of the total revenue of a show in the arrays returned by getRevenue, followed by the revenue of each tier.
+    private static final int TOTAL = 0;
+
+    private final Map<YearMonth, LongAdder> monthlyRevenue = new ConcurrentHashMap<>();
+    private final Map<YearMonth, Integer> monthlyShowCount = new ConcurrentHashMap<>();
+    // revenue of each show, keyed by the key id of the show name.
+    private final Map<Integer, LongAdder> showRevenue = new ConcurrentHashMap<>();
+    private final LongAdder[] tierRevenue = new LongAdder[SeatTier.count()];
+    private final RevenueFenwickTree dailyRevenue = new RevenueFenwickTree();
+
+    public RevenueAggregates() {
+        for (int i = 0; i < tierRevenue.length; i++) {
+            tierRevenue[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Add the revenue of a show to the totals.
+     *
+     * @param showDate The date of the show.
+     * @param theatre  The show.
+     */
+    public void add(LocalDate showDate, Theatre theatre) {
+        update(showDate, theatre, 1);
+    }
+
+    /**
+     * Take the revenue of a show out of the totals.
+     *
+     * @param showDate The date of the show.
+     * @param theatre  The show.
+     */
+    public void subtract(LocalDate showDate, Theatre theatre) {
+        update(showDate, theatre, -1);
+    }
+
+    private void update(LocalDate showDate, Theatre theatre, int sign) {
+        YearMonth month = YearMonth.from(showDate);
+        monthlyShowCount.merge(month, sign, Integer::sum);
+        monthlyRevenue.computeIfAbsent(month, m -> new LongAdder());
+        // the day is added even without revenue so that later seat changes never need to grow the tree.
+        dailyRevenue.add(showDate, 0);
+        long[] revenue = getRevenue(theatre);
+        addProfit(showDate, theatre.getShowNameKey(), sign * revenue[TOTAL]);
+        for (SeatTier tier : SeatTier.values()) {
+            tierRevenue[tier.ordinal()].add(sign * revenue[tier.ordinal() + 1]);
+        }
+        if (monthlyShowCount.get(month) == 0) {
+            monthlyRevenue.remove(month);
+            monthlyShowCount.remove(month);
+        }
+    }
+
+    /**
+     * Get the revenue of a show.
+     *
+     * @param theatre The show.
+     * @return total revenue of the show followed by the revenue of each seat tier.
+     */
+    public static long[] getRevenue(Theatre theatre) {
+        long[] revenue = new long[SeatTier.count() + 1];
+        revenue[TOTAL] = theatre.getProfit();
+        for (SeatTier tier : SeatTier.values()) {
+            revenue[tier.ordinal() + 1] = theatre.getTierRevenue(tier);
+        }
+        return revenue;
+    }
+
+    /**
+     * Update the totals with a change in revenue of a show after one of its seats has been changed.
+     * The show must have been added to the totals.
+     *
+     * @param showDate          The date of the show.
+     * @param showNameKey       The key id of the name of the show.
+     * @param tier              The tier of the seat that changed.
+     * @param profitChange      The change in the revenue of the show.
+     * @param tierRevenueChange The change in the value of the seats sold in the tier.
+     */
+    public void change(LocalDate showDate, int showNameKey, SeatTier tier, long profitChange, long tierRevenueChange) {
+        addProfit(showDate, showNameKey, profitChange);
+        tierRevenue[tier.ordinal()].add(tierRevenueChange);
+    }
+
+    private void addProfit(LocalDate showDate, int showNameKey, long profit) {
+        if (profit == 0) {
+            return;
+        }
+        dailyRevenue.add(showDate, profit);
+        showRevenue.computeIfAbsent(showNameKey, k -> new LongAdder()).add(profit);
+        monthlyRevenue.computeIfAbsent(YearMonth.from(showDate), m -> new LongAdder()).add(profit);
+    }
+
+    /**
+     * Clear all totals.
+     */
+    public void clear() {
+        monthlyRevenue.clear();
+        monthlyShowCount.clear();
+        showRevenue.clear();
+        dailyRevenue.clear();
+        for (LongAdder adder : tierRevenue) {
+            adder.reset();
+        }
+    }
+
+    public long getRevenue(LocalDate from, LocalDate to) {
+        return dailyRevenue.sum(from, to);
+    }
+
+    public long getMonthlyRevenue(YearMonth month) {
+        LongAdder monthRevenue = monthlyRevenue.get(month);
+        return monthRevenue == null ? 0 : monthRevenue.sum();
+    }
+
+    public int getMonthlyShowCount(YearMonth month) {
+        return monthlyShowCount.getOrDefault(month, 0);
+    }
+
+    public long getShowRevenue(String showName) {
+        LongAdder revenue = showRevenue.get(ShowNameDictionary.getInstance().findKeyId(showName));
+        return revenue == null ? 0 : revenue.sum();
+    }
+
+    public long getTierRevenue(SeatTier tier) {
+        return tierRevenue[tier.ordinal()].sum();
+    }
+}
@@ -0,0 +1,166 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Binary indexed (Fenwick) tree of revenue in cents by calendar day.
+ * Adding revenue to a day and summing the revenue over any range of days both take O(log n).
+ * The range of days covered grows as needed, so only the span between the earliest and latest show is stored.
+ * Any number of threads may add to days that are already covered at once, sharing the lock for reading.
+ * Adding to a day outside the range grows the tree under the lock for writing, so no addition is lost to a copy.
+ * The range and the arrays are published together, so sums read without locking always see a consistent tree.
+ */
+public class RevenueFenwickTree {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final StampedLock growLock = new StampedLock();
+    private volatile Days days = new Days(0, new AtomicLongArray(0), new AtomicLongArray(1));
+
+    /**
+     * Add revenue to a day. Use a negative amount to take revenue away.
+     *
+     * @param date   The day.
+     * @param amount The revenue to add.
+     */
+    public void add(LocalDate date, long amount) {
+        long day = date.toEpochDay();
+        long stamp = growLock.readLock();
+        try {
+            Days current = days;
+            if (current.covers(day)) {
+                current.add(day, amount);
+                return;
+            }
+        } finally {
+            growLock.unlockRead(stamp);
+        }
+
+        stamp = growLock.writeLock();
+        try {
+            if (!days.covers(day)) {
+                days = days.grow(day);
+            }
+            days.add(day, amount);
+        } finally {
+            growLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Checks if the day is in the range covered by the tree.
+     *
+     * @param date The day.
+     * @return {@code true} if revenue can be added to the day without growing the tree
+     * {@code false} otherwise
+     */
+    public boolean covers(LocalDate date) {
+        return days.covers(date.toEpochDay());
+    }
+
+    /**
+     * Get the total revenue from one day to another, both inclusive.
+     *
+     * @param from The first day.
+     * @param to   The last day.
+     * @return total revenue over the days.
+     */
+    public long sum(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        Days current = days;
+        return current.prefixSum(to.toEpochDay() + 1) - current.prefixSum(from.toEpochDay());
+    }
+
+    /**
+     * Remove all revenue.
+     */
+    public void clear() {
+        long stamp = growLock.writeLock();
+        try {
+            days = new Days(0, new AtomicLongArray(0), new AtomicLongArray(1));
+        } finally {
+            growLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * The days covered by the tree and their revenue. The range never changes once published.
+     */
+    private static final class Days {
+        // epoch day stored at index 0.
+        private final long origin;
+        // revenue on each day, used to rebuild the tree when it grows.
+        private final AtomicLongArray values;
+        // 1-based Fenwick tree over values.
+        private final AtomicLongArray tree;
+
+        private Days(long origin, AtomicLongArray values, AtomicLongArray tree) {
+            this.origin = origin;
+            this.values = values;
+            this.tree = tree;
+        }
+
+        private boolean covers(long day) {
+            return day >= origin && day < origin + values.length();
+        }
+
+        private void add(long day, long amount) {
+            if (amount == 0) {
+                return;
+            }
+            int index = (int) (day - origin);
+            values.addAndGet(index, amount);
+            for (int i = index + 1; i < tree.length(); i += i & -i) {
+                tree.addAndGet(i, amount);
+            }
+        }
+
+        /**
+         * Get the total revenue of the days before the given epoch day.
+         */
+        private long prefixSum(long day) {
+            long count = Math.min(Math.max(day - origin, 0), values.length());
+            long sum = 0;
+            for (int i = (int) count; i > 0; i -= i & -i) {
+                sum += tree.get(i);
+            }
+            return sum;
+        }
+
+        /**
+         * Get a copy covering the day, doubling the number of days covered until the day fits,
+         * and rebuild the tree in O(n).
+         */
+        private Days grow(long day) {
+            if (values.length() == 0) {
+                return new Days(day - INITIAL_CAPACITY / 2, new AtomicLongArray(INITIAL_CAPACITY),
+                        new AtomicLongArray(INITIAL_CAPACITY + 1));
+            }
+            long start = Math.min(origin, day);
+            long end = Math.max(origin + values.length(), day + 1);
+            int capacity = values.length();
+            while (capacity < end - start) {
+                capacity *= 2;
+            }
+            long newOrigin = day < origin ? end - capacity : origin;
+
+            int offset = (int) (origin - newOrigin);
+            AtomicLongArray newValues = new AtomicLongArray(capacity);
+            for (int i = 0; i < values.length(); i++) {
+                newValues.set(i + offset, values.get(i));
+            }
+            long[] newTree = new long[capacity + 1];
+            for (int i = 1; i <= capacity; i++) {
+                newTree[i] += newValues.get(i - 1);
+                int parent = i + (i & -i);
+                if (parent <= capacity) {
+                    newTree[parent] += newTree[i];
+                }
+            }
+            return new Days(newOrigin, newValues, new AtomicLongArray(newTree));
+        }
+    }
+}
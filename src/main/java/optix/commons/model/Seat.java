@@ -1,62 +1,225 @@
 package optix.commons.model;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A seat in the theatre. The whole state of the seat is packed in one word that is only changed by compare-and-set,
+ * so two sellers can never both sell the seat, and the price paid is always read together with the sale it belongs to.
+ */
 public class Seat {
-    private double ticketPrice;
-    private String seatTier;
-    private boolean isSold;
+    // the word is 0 for an available seat, SOLD | price paid in cents, HELD | hold id,
+    // or RESERVED while a seat transaction is changing the seat.
+    private static final long SOLD = 1L << 62;
+    private static final long HELD = 1L << 61;
+    private static final long RESERVED = 1L << 60;
+    private static final long VALUE = RESERVED - 1;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Seat.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SeatTier seatTier;
+    private volatile long state;
 
     /**
      * the seat object.
      *
      * @param seatTier tier of the seat. Higher tier seat is more precious.
      */
-    public Seat(String seatTier) {
-        this.isSold = false;
+    public Seat(SeatTier seatTier) {
         this.seatTier = seatTier;
     }
 
+    /**
+     * Set the seat as sold or unsold, without a price. Selling a held seat releases the hold.
+     * Not safe to use while other threads are changing the seat.
+     *
+     * @param sold true if the seat is sold.
+     */
     public void setSold(boolean sold) {
-        isSold = sold;
+        state = sold ? SOLD : 0;
     }
 
     public boolean isSold() {
-        return isSold;
+        return (state & SOLD) != 0;
     }
 
-    private String getStatusIcon() {
-        return isSold ? "✓" : "✘";
+    /**
+     * Set the price a sold seat was sold for. Not safe to use while other threads are changing the seat.
+     *
+     * @param pricePaid price in cents.
+     */
+    public void setPricePaid(long pricePaid) {
+        if (isSold()) {
+            state = SOLD | pricePaid;
+        }
     }
 
-    public String getSeat() {
-        return "[" + getStatusIcon() + "]";
+    public long getPricePaid() {
+        long current = state;
+        return (current & SOLD) != 0 ? current & VALUE : 0;
     }
 
-    public void setSeatTier(String seatTier) {
-        this.seatTier = seatTier;
+    /**
+     * Sell the seat if it is available.
+     *
+     * @param pricePaid price in cents the seat is sold for.
+     * @return 0 if the seat has been sold, or -1 if the seat could not be sold.
+     */
+    public long trySell(long pricePaid) {
+        return trySell(pricePaid, 0);
     }
 
-    public String getSeatTier() {
-        return seatTier;
+    /**
+     * Sell the seat if it is available or held under the given hold. Selling a held seat releases the hold.
+     * Seats held for other customers are never sold.
+     *
+     * @param pricePaid price in cents the seat is sold for.
+     * @param holdId    id of the hold of the customer, or 0 if they have none.
+     * @return id of the hold the seat was under, 0 if it was not held, or -1 if the seat could not be sold.
+     */
+    public long trySell(long pricePaid, long holdId) {
+        assert pricePaid >= 0 && pricePaid <= VALUE;
+        if (STATE.compareAndSet(this, 0L, SOLD | pricePaid)) {
+            return 0;
+        }
+        if (holdId != 0 && STATE.compareAndSet(this, HELD | holdId, SOLD | pricePaid)) {
+            return holdId;
+        }
+        return -1;
+    }
+
+    /**
+     * Make the seat available again if it has been sold.
+     *
+     * @return price in cents the seat was sold for, or -1 if the seat was not sold.
+     */
+    public long tryUnsell() {
+        while (true) {
+            long current = state;
+            if ((current & SOLD) == 0) {
+                return -1;
+            }
+            if (STATE.compareAndSet(this, current, 0L)) {
+                return current & VALUE;
+            }
+        }
+    }
+
+    /**
+     * Hold the seat for a customer who has not decided yet, if it is available.
+     *
+     * @param holdId id of the hold, must not be 0.
+     * @return true if the seat is now held.
+     */
+    public boolean tryHold(long holdId) {
+        assert holdId > 0 && holdId <= VALUE;
+        return STATE.compareAndSet(this, 0L, HELD | holdId);
+    }
+
+    /**
+     * Release the hold on the seat if it is still under the given hold.
+     *
+     * @param holdId id of the hold.
+     * @return true if the seat was released.
+     */
+    public boolean tryReleaseHold(long holdId) {
+        return STATE.compareAndSet(this, HELD | holdId, 0L);
     }
 
     /**
-     * Get the price of the seat according to its tier.
-     * The seat tier cannot be out of bounds.
+     * Hold the seat for a customer who has not decided yet. Not safe to use while other threads are changing the seat.
      *
-     * @param basePrice base seat price of a show.
-     * @return price seat according to its tier.
+     * @param holdId id of the hold, must not be 0.
      */
-    public double getSeatPrice(double basePrice) {
-        assert (Integer.parseInt(seatTier) <= 3 && Integer.parseInt(seatTier) > 0);
-        if (seatTier.equals("1")) {
-            ticketPrice = basePrice;
+    public void hold(long holdId) {
+        assert holdId != 0;
+        state = HELD | holdId;
+    }
+
+    public void releaseHold() {
+        if (isHeld()) {
+            state = 0;
         }
-        if (seatTier.equals("2")) {
-            ticketPrice = basePrice * 1.2;
+    }
+
+    public boolean isHeld() {
+        return (state & HELD) != 0;
+    }
+
+    public long getHoldId() {
+        long current = state;
+        return (current & HELD) != 0 ? current & VALUE : 0;
+    }
+
+    public boolean isAvailable() {
+        return state == 0;
+    }
+
+    /**
+     * Reserve the seat for a seat transaction, so that nobody else can change it until the reservation ends.
+     *
+     * @param mustBeSold whether the seat is expected to be sold. Otherwise it must be available,
+     *                   so seats held for a customer are never sold by a transaction.
+     * @return the state of the seat before the reservation, or -1 if the seat is not as expected.
+     */
+    long reserve(boolean mustBeSold) {
+        while (true) {
+            long current = state;
+            if (mustBeSold ? (current & SOLD) == 0 : current != 0) {
+                return -1;
+            }
+            if (STATE.compareAndSet(this, current, RESERVED)) {
+                return current;
+            }
         }
-        if (seatTier.equals("3")) {
-            ticketPrice = basePrice * 1.5;
+    }
+
+    /**
+     * End the reservation of the seat.
+     *
+     * @param newState the state to leave the seat in, from reserve or soldState.
+     */
+    void endReservation(long newState) {
+        assert state == RESERVED;
+        state = newState;
+    }
+
+    static long soldState(long pricePaid) {
+        return SOLD | pricePaid;
+    }
+
+    static boolean isSoldState(long seatState) {
+        return (seatState & SOLD) != 0;
+    }
+
+    static long getPricePaid(long seatState) {
+        return isSoldState(seatState) ? seatState & VALUE : 0;
+    }
+
+    private String getStatusIcon() {
+        long current = state;
+        if ((current & SOLD) != 0) {
+            return "✓";
         }
-        return ticketPrice;
+        return (current & (HELD | RESERVED)) != 0 ? "H" : "✘";
+    }
+
+    public String getSeat() {
+        return "[" + getStatusIcon() + "]";
+    }
+
+    public void setSeatTier(SeatTier seatTier) {
+        this.seatTier = seatTier;
+    }
+
+    public SeatTier getSeatTier() {
+        return seatTier;
     }
 }
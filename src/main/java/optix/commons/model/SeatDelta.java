@@ -0,0 +1,55 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+
+/**
+ * The state of one seat of a show after it has changed, as pushed to subscribers of the seat map of the show.
+ */
+public class SeatDelta {
+    /**
+     * What the seat can be used for. Seats in the middle of a seat transaction are shown as held.
+     */
+    public enum Status {
+        AVAILABLE, HELD, SOLD
+    }
+
+    private final LocalDate showDate;
+    private final int row;
+    private final int col;
+    private final Status status;
+
+    SeatDelta(LocalDate showDate, int row, int col, Status status) {
+        this.showDate = showDate;
+        this.row = row;
+        this.col = col;
+        this.status = status;
+    }
+
+    public LocalDate getShowDate() {
+        return showDate;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Get the seat number, e.g. A1.
+     */
+    public String getSeatNumber() {
+        return (char) ('A' + row) + Integer.toString(col + 1);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return getSeatNumber() + " " + status;
+    }
+}
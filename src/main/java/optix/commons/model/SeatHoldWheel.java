@@ -0,0 +1,100 @@
+package optix.commons.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashed timer wheel that releases seat holds once they lapse.
+ * Each hold is placed in the slot of the tick it lapses on, so scheduling a hold takes O(1)
+ * and advancing the wheel only visits the slots of the ticks that have passed.
+ * Holds that are sold before they lapse are left in the wheel and ignored when released.
+ * The wheel may be shared between threads.
+ */
+public class SeatHoldWheel {
+    private static final int NUMBER_OF_SLOTS = 512;
+
+    private final long tickMillis;
+    private final List<List<SeatHold>> slots = new ArrayList<>(NUMBER_OF_SLOTS);
+    // last tick that has been processed.
+    private long currentTick;
+    private int size;
+
+    /**
+     * Create an empty wheel.
+     *
+     * @param tickMillis  length of a tick in milliseconds. Holds lapse on the first tick after their expiry.
+     * @param startMillis current time in milliseconds.
+     */
+    public SeatHoldWheel(long tickMillis, long startMillis) {
+        assert tickMillis > 0;
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int i = 0; i < NUMBER_OF_SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule the release of a hold.
+     *
+     * @param theatre      the show the seats are held in.
+     * @param holdId       id of the hold.
+     * @param seats        the held seats.
+     * @param expiryMillis time in milliseconds at which the hold lapses.
+     */
+    public synchronized void schedule(Theatre theatre, long holdId, String[] seats, long expiryMillis) {
+        long tick = Math.max((expiryMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        slots.get((int) (tick % NUMBER_OF_SLOTS)).add(new SeatHold(theatre, holdId, seats, tick));
+        size++;
+    }
+
+    /**
+     * Release all holds that have lapsed by the given time.
+     *
+     * @param nowMillis current time in milliseconds.
+     * @return number of holds released.
+     */
+    public synchronized int advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick || size == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return 0;
+        }
+
+        int released = 0;
+        long ticksToVisit = Math.min(targetTick - currentTick, NUMBER_OF_SLOTS);
+        for (long i = 1; i <= ticksToVisit; i++) {
+            Iterator<SeatHold> slot = slots.get((int) ((currentTick + i) % NUMBER_OF_SLOTS)).iterator();
+            while (slot.hasNext()) {
+                SeatHold hold = slot.next();
+                if (hold.tick <= targetTick) {
+                    slot.remove();
+                    size--;
+                    hold.theatre.releaseHold(hold.holdId, hold.seats);
+                    released++;
+                }
+            }
+        }
+        currentTick = targetTick;
+        return released;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private static class SeatHold {
+        private final Theatre theatre;
+        private final long holdId;
+        private final String[] seats;
+        private final long tick;
+
+        private SeatHold(Theatre theatre, long holdId, String[] seats, long tick) {
+            this.theatre = theatre;
+            this.holdId = holdId;
+            this.seats = seats;
+            this.tick = tick;
+        }
+    }
+}
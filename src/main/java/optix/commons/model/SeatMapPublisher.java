@@ -0,0 +1,137 @@
+package optix.commons.model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of the changes to the seats of one show. Subscribers get one SeatDelta for each seat that changed,
+ * holding the state of the seat when it is delivered, and never get more deltas than they have requested.
+ * The seats a subscriber has not been told about yet are kept as one bit per seat, so a slow subscriber
+ * only ever has one delta per seat waiting, however many times the seat changes, and sellers never wait for it.
+ * Deltas are delivered on the common fork-join pool, one at a time for each subscriber.
+ * A subscriber whose onNext throws is cancelled and then given the exception through onError.
+ */
+public class SeatMapPublisher implements Flow.Publisher<SeatDelta> {
+    private final Theatre theatre;
+    private final int cols;
+    private final Executor executor;
+    private final List<SeatSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    SeatMapPublisher(Theatre theatre, int rows, int cols) {
+        assert rows * cols <= Long.SIZE;
+        this.theatre = theatre;
+        this.cols = cols;
+        this.executor = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SeatDelta> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        SeatSubscription subscription = new SeatSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Tell every subscriber that a seat has changed.
+     *
+     * @param row row of the seat.
+     * @param col column of the seat.
+     */
+    void seatChanged(int row, int col) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long bit = 1L << (row * cols + col);
+        for (SeatSubscription subscription : subscriptions) {
+            subscription.seatChanged(bit);
+        }
+    }
+
+    private class SeatSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super SeatDelta> subscriber;
+        // bit per seat that has changed since the subscriber was last told about it.
+        private final AtomicLong pendingSeats = new AtomicLong();
+        private final AtomicLong demand = new AtomicLong();
+        // number of times delivery was asked for since the last delivery run started. Only one run is active at a time.
+        private final AtomicInteger deliveryRequests = new AtomicInteger();
+        private volatile boolean isCancelled;
+
+        private SeatSubscription(Flow.Subscriber<? super SeatDelta> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void seatChanged(long bit) {
+            pendingSeats.getAndAccumulate(bit, (pending, changed) -> pending | changed);
+            scheduleDelivery();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("The number of deltas requested must be positive."));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, requested) -> {
+                long total = current + requested;
+                return total < 0 ? Long.MAX_VALUE : total;
+            });
+            scheduleDelivery();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void signalError(Throwable throwable) {
+            try {
+                subscriber.onError(throwable);
+            } catch (RuntimeException e) {
+                // the subscription is already cancelled, so there is no one left to tell.
+            }
+        }
+
+        private void scheduleDelivery() {
+            if (deliveryRequests.getAndIncrement() == 0) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            int requests = deliveryRequests.get();
+            while (true) {
+                while (!isCancelled && demand.get() > 0) {
+                    long pending = pendingSeats.get();
+                    if (pending == 0) {
+                        break;
+                    }
+                    long bit = Long.lowestOneBit(pending);
+                    pendingSeats.getAndAccumulate(bit, (current, delivered) -> current & ~delivered);
+                    demand.decrementAndGet();
+                    int index = Long.numberOfTrailingZeros(bit);
+                    try {
+                        subscriber.onNext(theatre.getSeatDelta(index / cols, index % cols));
+                    } catch (RuntimeException e) {
+                        // a subscriber that fails is told why, then gets nothing more.
+                        cancel();
+                        signalError(e);
+                    }
+                }
+                requests = deliveryRequests.addAndGet(-requests);
+                if (requests == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package optix.commons.model;
+
+/**
+ * Tiers of seats in the theatre. Higher tier seats are more precious.
+ */
+public enum SeatTier {
+    ONE(1),
+    TWO(2),
+    THREE(3);
+
+    private static final SeatTier[] TIERS = values();
+
+    private final int level;
+
+    SeatTier(int level) {
+        this.level = level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Get the tier of the given level.
+     *
+     * @param level tier level from 1 to 3.
+     * @return the seat tier.
+     */
+    public static SeatTier of(int level) {
+        assert level > 0 && level <= TIERS.length;
+        return TIERS[level - 1];
+    }
+
+    public static int count() {
+        return TIERS.length;
+    }
+}
@@ -0,0 +1,214 @@
+package optix.commons.model;
+
+import optix.util.OptixDateFormatter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A batch of seat sales and removals across one or more shows that is applied all at once.
+ * Every change is validated against the state the earlier changes in the batch would leave behind,
+ * and nothing is applied unless every change is valid.
+ */
+public class SeatTransaction {
+    private static final String MESSAGE_SHOW_NOT_FOUND = "☹ OOPS!!! There is no show on %1$s.\n";
+    private static final String MESSAGE_SEATS_NOT_EXIST = "☹ OOPS!!! The seats %1$s do not exist.\n";
+    private static final String MESSAGE_SEATS_UNAVAILABLE = "☹ OOPS!!! The seats %1$s are unavailable.\n";
+    private static final String MESSAGE_SEATS_NOT_SOLD = "☹ OOPS!!! The seats %1$s are not yet sold.\n";
+
+    private final OptixDateFormatter formatter = new OptixDateFormatter();
+    private final List<SeatChange> changes = new ArrayList<>();
+    private long totalSold;
+    private long totalRemoved;
+
+    /**
+     * Add seat sales to the batch.
+     *
+     * @param showDate The date of the show.
+     * @param seats    The seats to sell.
+     * @return this transaction.
+     */
+    public SeatTransaction sell(LocalDate showDate, String... seats) {
+        for (String seat : seats) {
+            changes.add(new SeatChange(showDate, seat.trim().toUpperCase(), true));
+        }
+        return this;
+    }
+
+    /**
+     * Add seat removals to the batch.
+     *
+     * @param showDate The date of the show.
+     * @param seats    The seats to remove.
+     * @return this transaction.
+     */
+    public SeatTransaction remove(LocalDate showDate, String... seats) {
+        for (String seat : seats) {
+            changes.add(new SeatChange(showDate, seat.trim().toUpperCase(), false));
+        }
+        return this;
+    }
+
+    /**
+     * Check every change in the batch against the shows without changing them.
+     *
+     * @param shows The shows the batch is applied to.
+     * @return Message detailing the invalid changes, or an empty String if every change is valid.
+     */
+    public String validate(ShowMap shows) {
+        Set<LocalDate> showsNotFound = new LinkedHashSet<>();
+        List<String> seatsNotExist = new ArrayList<>();
+        List<String> seatsUnavailable = new ArrayList<>();
+        List<String> seatsNotSold = new ArrayList<>();
+        // whether each seat touched by the batch is sold after the changes so far.
+        Map<String, Boolean> soldAfterChanges = new HashMap<>();
+
+        for (SeatChange change : changes) {
+            Theatre theatre = shows.get(change.showDate);
+            if (theatre == null) {
+                showsNotFound.add(change.showDate);
+                continue;
+            }
+            if (!theatre.hasSeat(change.seat)) {
+                seatsNotExist.add(change.seat);
+                continue;
+            }
+            String key = change.getKey();
+            boolean isSold = soldAfterChanges.getOrDefault(key, theatre.isSeatSold(change.seat));
+            // seats held for a customer are only sold through their hold.
+            boolean isHeld = !soldAfterChanges.containsKey(key) && theatre.isSeatHeld(change.seat);
+            if (change.isSale && (isSold || isHeld)) {
+                seatsUnavailable.add(change.seat);
+            } else if (!change.isSale && !isSold) {
+                seatsNotSold.add(change.seat);
+            } else {
+                soldAfterChanges.put(key, change.isSale);
+            }
+        }
+
+        StringBuilder message = new StringBuilder();
+        for (LocalDate showDate : showsNotFound) {
+            message.append(String.format(MESSAGE_SHOW_NOT_FOUND, formatter.toStringDate(showDate)));
+        }
+        if (!seatsNotExist.isEmpty()) {
+            message.append(String.format(MESSAGE_SEATS_NOT_EXIST, seatsNotExist));
+        }
+        if (!seatsUnavailable.isEmpty()) {
+            message.append(String.format(MESSAGE_SEATS_UNAVAILABLE, seatsUnavailable));
+        }
+        if (!seatsNotSold.isEmpty()) {
+            message.append(String.format(MESSAGE_SEATS_NOT_SOLD, seatsNotSold));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Get the dates of the shows changed by the batch.
+     *
+     * @return dates of the shows in the order they were first changed.
+     */
+    public Set<LocalDate> getShowDates() {
+        Set<LocalDate> showDates = new LinkedHashSet<>();
+        for (SeatChange change : changes) {
+            showDates.add(change.showDate);
+        }
+        return showDates;
+    }
+
+    /**
+     * Apply every change in the batch. Should only be called after the batch has been validated.
+     * Every seat in the batch is reserved first, so other sellers cannot change the seats while the batch is applied.
+     * If any seat is no longer as validated, every reservation is undone and nothing is changed.
+     *
+     * @param shows The shows the batch is applied to.
+     * @return {@code true} if the batch has been applied
+     * {@code false} if a seat was changed by someone else since the batch was validated
+     */
+    boolean apply(ShowMap shows) {
+        totalSold = 0;
+        totalRemoved = 0;
+        // state of each seat touched by the batch before the batch, in the order the seats were reserved.
+        Map<String, Long> statesBefore = new LinkedHashMap<>();
+        for (SeatChange change : changes) {
+            if (statesBefore.containsKey(change.getKey())) {
+                continue;
+            }
+            long stateBefore = shows.get(change.showDate).reserveSeat(change.seat, !change.isSale);
+            if (stateBefore == -1) {
+                cancelReservations(shows, statesBefore);
+                return false;
+            }
+            statesBefore.put(change.getKey(), stateBefore);
+        }
+
+        Map<String, Long> statesAfter = new HashMap<>(statesBefore);
+        for (SeatChange change : changes) {
+            Theatre theatre = shows.get(change.showDate);
+            long state = statesAfter.get(change.getKey());
+            if (change.isSale) {
+                state = theatre.sellReservedSeat(change.seat, state);
+                totalSold += Seat.getPricePaid(state);
+            } else {
+                totalRemoved += Seat.getPricePaid(state);
+                state = theatre.removeReservedSeat(change.seat, state);
+            }
+            statesAfter.put(change.getKey(), state);
+        }
+        for (SeatChange change : changes) {
+            Long state = statesAfter.remove(change.getKey());
+            if (state != null) {
+                shows.get(change.showDate).endReservation(change.seat, state);
+            }
+        }
+        return true;
+    }
+
+    private void cancelReservations(ShowMap shows, Map<String, Long> statesBefore) {
+        for (SeatChange change : changes) {
+            Long state = statesBefore.remove(change.getKey());
+            if (state != null) {
+                shows.get(change.showDate).endReservation(change.seat, state);
+            }
+        }
+    }
+
+    /**
+     * Get the total cost of the seats sold by the batch.
+     *
+     * @return total cost in cents.
+     */
+    public long getTotalSold() {
+        return totalSold;
+    }
+
+    /**
+     * Get the total cost of the seats removed by the batch.
+     *
+     * @return total cost in cents.
+     */
+    public long getTotalRemoved() {
+        return totalRemoved;
+    }
+
+    private static class SeatChange {
+        private final LocalDate showDate;
+        private final String seat;
+        private final boolean isSale;
+
+        private SeatChange(LocalDate showDate, String seat, boolean isSale) {
+            this.showDate = showDate;
+            this.seat = seat;
+            this.isSale = isSale;
+        }
+
+        private String getKey() {
+            return showDate + " " + seat;
+        }
+    }
+}
@@ -1,31 +1,85 @@
 package optix.commons.model;
 
+import java.util.concurrent.atomic.LongAdder;
+
 public class Show {
-    private String showName;
-    private double profit;
+    private static final ShowNameDictionary SHOW_NAMES = ShowNameDictionary.getInstance();
+
+    // id of the show name in the show name dictionary.
+    private volatile int showNameId;
+    // revenue in cents. Sellers of the same show add to it from several threads at once.
+    private final LongAdder profit = new LongAdder();
 
-    public Show(String showName, double profit) {
-        this.showName = showName;
-        this.profit = profit;
+    /**
+     * The show object.
+     *
+     * @param showName name of the show.
+     * @param profit   revenue of the show in cents.
+     */
+    public Show(String showName, long profit) {
+        this.showNameId = SHOW_NAMES.intern(showName);
+        this.profit.add(profit);
     }
 
     public void setShowName(String showName) {
-        this.showName = showName;
+        this.showNameId = SHOW_NAMES.intern(showName);
+    }
+
+    /**
+     * Set the revenue of the show. Not safe to use while other threads are selling seats of the show.
+     *
+     * @param profit revenue in cents.
+     */
+    public void setProfit(long profit) {
+        this.profit.reset();
+        this.profit.add(profit);
     }
 
-    public void setProfit(double profit) {
-        this.profit = profit;
+    /**
+     * Add to the revenue of the show. Use a negative amount to take revenue away.
+     *
+     * @param amount amount in cents.
+     */
+    public void addProfit(long amount) {
+        profit.add(amount);
     }
 
     public String getShowName() {
-        return showName;
+        return SHOW_NAMES.getName(showNameId);
+    }
+
+    public int getShowNameId() {
+        return showNameId;
     }
 
-    public double getProfit() {
-        return profit;
+    /**
+     * Get the key id of the show name. Shows whose names only differ in case have the same key id.
+     *
+     * @return key id of the show name.
+     */
+    public int getShowNameKey() {
+        return SHOW_NAMES.getKeyId(showNameId);
+    }
+
+    public long getProfit() {
+        return profit.sum();
     }
 
     public boolean hasSameName(String checkName) {
-        return showName.toLowerCase().equals(checkName.toLowerCase());
+        return SHOW_NAMES.findKeyId(checkName) == getShowNameKey();
+    }
+
+    public boolean hasSameName(Show other) {
+        return other.getShowNameKey() == getShowNameKey();
+    }
+
+    /**
+     * Get the key used to compare show names. Show names are case insensitive.
+     *
+     * @param showName The name of the show.
+     * @return the normalized show name.
+     */
+    public static String normalizeName(String showName) {
+        return showName.toLowerCase();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package optix.commons.model;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks guarding the seats of each show. The date of a show picks one of a fixed number of locks,
+ * so sales for different shows almost never wait on each other and no single lock covers every show.
+ * Consecutive dates always get different locks.
+ */
+public class ShowLocks {
+    private static final int NUMBER_OF_STRIPES = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[NUMBER_OF_STRIPES];
+
+    public ShowLocks() {
+        for (int i = 0; i < NUMBER_OF_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    private int stripeOf(LocalDate showDate) {
+        return (int) Math.floorMod(showDate.toEpochDay(), (long) NUMBER_OF_STRIPES);
+    }
+
+    /**
+     * Run an action while holding the lock of a show.
+     *
+     * @param showDate The date of the show.
+     * @param action   The action.
+     * @return the result of the action.
+     */
+    public <T> T withLock(LocalDate showDate, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeOf(showDate)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action while holding the locks of several shows.
+     * The locks are always taken in the same order, so two actions over overlapping shows cannot deadlock.
+     *
+     * @param showDates The dates of the shows.
+     * @param action    The action.
+     * @return the result of the action.
+     */
+    public <T> T withLocks(Collection<LocalDate> showDates, Supplier<T> action) {
+        TreeSet<Integer> stripesToLock = new TreeSet<>();
+        for (LocalDate showDate : showDates) {
+            stripesToLock.add(stripeOf(showDate));
+        }
+        for (int stripe : stripesToLock) {
+            stripes[stripe].lock();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int stripe : stripesToLock.descendingSet()) {
+                stripes[stripe].unlock();
+            }
+        }
+    }
+
+    /**
+     * Checks if the current thread holds the lock of a show.
+     *
+     * @param showDate The date of the show.
+     * @return {@code true} if the lock is held by the current thread
+     * {@code false} otherwise
+     */
+    public boolean isHeldByCurrentThread(LocalDate showDate) {
+        return stripes[stripeOf(showDate)].isHeldByCurrentThread();
+    }
+}
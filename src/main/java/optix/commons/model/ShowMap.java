@@ -1,23 +1,226 @@
 package optix.commons.model;
 
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 /**
- * TreeMap to sort all usage of the Opera Theatre according to calendar.
+ * Schedule of all usage of the Opera Theatre, sharded by month and iterated in calendar order.
+ * Adding, removing and renaming shows and taking snapshots lock the map, so a snapshot is never taken halfway
+ * through a change. Looking up a show never locks, and seat changes only touch their own show, which reports each
+ * change in revenue to the running totals, so any seat changes may run at once.
+ * The Model makes sure seat changes never run alongside changes to the schedule in the same month.
  */
-public class ShowMap extends TreeMap<LocalDate, Theatre> {
+public class ShowMap extends MonthShardedSchedule {
 
     private OptixDateFormatter formatter = new OptixDateFormatter();
     private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final ShowNameDictionary SHOW_NAMES = ShowNameDictionary.getInstance();
+    private static final String MESSAGE_SEATS_TAKEN = "☹ OOPS!!! Some of the seats were changed by someone else "
+            + "while the transaction was being made. Please try again.\n";
+    private static final String MESSAGE_BEST_SEATS_SOLD = "You have successfully purchased the following seats: \n"
+            + "%1$s\n"
+            + "The total cost of the tickets are $%2$s\n";
+    // times to search again for the best seats after a sale took one of them before they were all claimed.
+    private static final int MAX_BEST_SEATS_ATTEMPTS = 5;
+
+    /**
+     * Secondary index from the key id of a show name to the dates it is showing on.
+     * Kept in sync by put, remove and editShowName so that name queries do not scan the whole map.
+     */
+    private final Map<Integer, TreeSet<LocalDate>> showNameIndex = new HashMap<>();
+
+    /**
+     * Trie over the names in this map for prefix and fuzzy search.
+     */
+    private final ShowNameTrie showNameTrie = new ShowNameTrie();
+
+    /**
+     * Running revenue totals, updated with every change to a show.
+     */
+    private final RevenueAggregates revenue = new RevenueAggregates();
+
+    /**
+     * Listener attached to every show in the map to pass changes in its revenue on to the running totals.
+     */
+    private final Theatre.RevenueListener revenueListener = (theatre, tier, profitChange, tierRevenueChange) -> {
+        revenue.change(theatre.getShowDate(), theatre.getShowNameKey(), tier, profitChange, tierRevenueChange);
+        revenueChanged();
+    };
+
+    /**
+     * Number of changes to the revenue of the shows, and the result of listFinance with the number it was made at.
+     * The cached listing is stale once the number has moved on.
+     */
+    private final LongAdder revenueVersion = new LongAdder();
+    private volatile FinanceListing financeListing;
+
+    /**
+     * Number of changes made to the schedule, and the snapshot of the latest version once it has been taken.
+     * Readers share the snapshot until the schedule changes again.
+     */
+    private volatile long version;
+    private volatile ShowSnapshot snapshot;
+
+    /**
+     * Shows of each month at the last snapshot, and the months changed since, which are the only months
+     * copied into the next snapshot.
+     */
+    private NavigableMap<YearMonth, NavigableMap<LocalDate, Theatre>> snapshotMonths = new TreeMap<>();
+    private final Set<YearMonth> changedMonths = new HashSet<>();
+
+    /**
+     * Number of days the theatre is closed between a show of one production and a show of another,
+     * for the set of one to be taken down and the set of the other to be put up.
+     */
+    private volatile int changeoverDays;
+
+    /**
+     * Clock used to price seats, and whether prices rise with demand. Prices are fixed unless surcharges are set.
+     */
+    private volatile Clock clock = Clock.systemDefaultZone();
+    private volatile PricingEngine pricingEngine = PricingEngine.DEFAULT;
+
+    @Override
+    public synchronized Theatre put(LocalDate showDate, Theatre theatre) {
+        Theatre previous = super.put(showDate, theatre);
+        theatre.setShowDate(showDate);
+        if (theatre.getPricingEngine() != pricingEngine) {
+            theatre.setPricingEngine(pricingEngine);
+        }
+        if (previous != null) {
+            previous.setRevenueListener(null);
+            unindexShow(previous.getShowName(), showDate);
+            revenue.subtract(showDate, previous);
+        }
+        indexShow(theatre.getShowName(), showDate);
+        revenue.add(showDate, theatre);
+        theatre.setRevenueListener(revenueListener);
+        scheduleChanged(showDate);
+        return previous;
+    }
+
+    @Override
+    public synchronized void putAll(Map<? extends LocalDate, ? extends Theatre> map) {
+        for (Map.Entry<? extends LocalDate, ? extends Theatre> entry : map.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public synchronized Theatre remove(Object key) {
+        Theatre removed = super.remove(key);
+        if (removed != null) {
+            removed.setRevenueListener(null);
+            unindexShow(removed.getShowName(), (LocalDate) key);
+            revenue.subtract((LocalDate) key, removed);
+            scheduleChanged((LocalDate) key);
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        for (Map.Entry<LocalDate, Theatre> entry : this.entrySet()) {
+            entry.getValue().setRevenueListener(null);
+            showNameTrie.remove(entry.getValue().getShowName());
+        }
+        super.clear();
+        showNameIndex.clear();
+        revenue.clear();
+        snapshotMonths = new TreeMap<>();
+        changedMonths.clear();
+        scheduleChanged();
+    }
+
+    private void scheduleChanged(LocalDate showDate) {
+        changedMonths.add(YearMonth.from(showDate));
+        scheduleChanged();
+    }
+
+    private void scheduleChanged() {
+        version++;
+        snapshot = null;
+        revenueChanged();
+    }
+
+    private void revenueChanged() {
+        revenueVersion.increment();
+    }
+
+    /**
+     * Get a read-only snapshot of the schedule. The snapshot is only taken on the first call after the schedule changes,
+     * and only the shows of the months changed since the last snapshot are copied.
+     *
+     * @return snapshot of the current schedule.
+     */
+    public ShowSnapshot snapshot() {
+        ShowSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                NavigableMap<YearMonth, NavigableMap<LocalDate, Theatre>> months = new TreeMap<>(snapshotMonths);
+                for (YearMonth month : changedMonths) {
+                    NavigableMap<LocalDate, Theatre> monthShows = copyOfMonth(month);
+                    if (monthShows.isEmpty()) {
+                        months.remove(month);
+                    } else {
+                        months.put(month, monthShows);
+                    }
+                }
+                changedMonths.clear();
+                snapshotMonths = months;
+                snapshot = new ShowSnapshot(version, months, size());
+            }
+            return snapshot;
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private void indexShow(String showName, LocalDate showDate) {
+        if (showNameIndex.computeIfAbsent(SHOW_NAMES.findKeyId(showName), k -> new TreeSet<>()).add(showDate)) {
+            showNameTrie.add(showName);
+        }
+    }
+
+    private void unindexShow(String showName, LocalDate showDate) {
+        int key = SHOW_NAMES.findKeyId(showName);
+        TreeSet<LocalDate> showDates = showNameIndex.get(key);
+        if (showDates == null) {
+            return;
+        }
+        if (showDates.remove(showDate)) {
+            showNameTrie.remove(showName);
+        }
+        if (showDates.isEmpty()) {
+            showNameIndex.remove(key);
+        }
+    }
 
     /**
      * Get show name.
@@ -36,49 +239,124 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
      *
      * @param showDate The date of the show.
      * @param showName The name of the show.
-     * @param revenue  The money earned from the show.
+     * @param revenue  The money earned from the show in cents.
      */
-    public void addShowHistory(LocalDate showDate, String showName, double revenue) {
+    public void addShowHistory(LocalDate showDate, String showName, long revenue) {
         Show show = new Show(showName, revenue);
         Theatre theatre = new Theatre(show);
         this.put(showDate, theatre);
     }
 
-    public void addShow(String showName, LocalDate showDate, double seatBasePrice) {
+    /**
+     * Add a new show.
+     *
+     * @param showName      The name of the show.
+     * @param showDate      The date of the show.
+     * @param seatBasePrice The base price of seats in cents.
+     */
+    public void addShow(String showName, LocalDate showDate, long seatBasePrice) {
         Theatre theatre = new Theatre(showName, seatBasePrice);
         this.put(showDate, theatre);
     }
 
-    public void editShowName(LocalDate showDate, String showName) {
-        this.get(showDate).setShowName(showName);
+    /**
+     * Rename the show on the given date.
+     *
+     * @param showDate The date of the show.
+     * @param showName The new name of the show.
+     */
+    public synchronized void editShowName(LocalDate showDate, String showName) {
+        Theatre theatre = this.get(showDate);
+        unindexShow(theatre.getShowName(), showDate);
+        revenue.subtract(showDate, theatre);
+        theatre.setShowName(showName);
+        theatre.stampVersion();
+        indexShow(showName, showDate);
+        revenue.add(showDate, theatre);
+        scheduleChanged();
+    }
+
+    /**
+     * Rename the show on the given date, unless it has been changed since it was read.
+     *
+     * @param showDate        The date of the show.
+     * @param showName        The new name of the show.
+     * @param expectedVersion The version stamp of the show when it was read.
+     * @return {@code true} if the show has been renamed
+     * {@code false} if there is no show on the date or its version stamp has changed
+     */
+    public synchronized boolean editShowName(LocalDate showDate, String showName, long expectedVersion) {
+        if (getShowVersion(showDate) != expectedVersion) {
+            return false;
+        }
+        editShowName(showDate, showName);
+        return true;
     }
 
-    public void rescheduleShow(LocalDate oldDate, LocalDate newDate) {
+    public synchronized void rescheduleShow(LocalDate oldDate, LocalDate newDate) {
         Theatre theatre = this.deleteShow(oldDate);
+        theatre.stampVersion();
         this.put(newDate, theatre);
     }
 
+    /**
+     * Move the show on the old date to the new date, unless it has been changed since it was read
+     * or the new date has been taken in the meantime.
+     *
+     * @param oldDate         The current date of the show.
+     * @param newDate         The new date of the show.
+     * @param expectedVersion The version stamp of the show when it was read.
+     * @return {@code true} if the show has been rescheduled
+     * {@code false} if the show has changed or the new date is taken
+     */
+    public synchronized boolean rescheduleShow(LocalDate oldDate, LocalDate newDate, long expectedVersion) {
+        if (getShowVersion(oldDate) != expectedVersion || this.containsKey(newDate)) {
+            return false;
+        }
+        rescheduleShow(oldDate, newDate);
+        return true;
+    }
+
+    /**
+     * Get the version stamp of the show on the given date.
+     *
+     * @param showDate The date of the show.
+     * @return the version stamp, or -1 if there is no show on the date.
+     */
+    public long getShowVersion(LocalDate showDate) {
+        Theatre theatre = this.get(showDate);
+        return theatre == null ? -1 : theatre.getVersion();
+    }
+
     /**
      * Get all the shows that are scheduled and their earnings.
+     * Read from a snapshot of the schedule, so the listing never holds up changes to the schedule.
      * @return String message of all the shows and their earnings.
      */
     public String listFinance() {
+        long currentVersion = revenueVersion.sum();
+        FinanceListing cached = financeListing;
+        if (cached != null && cached.version == currentVersion) {
+            return cached.listing;
+        }
         StringBuilder message = new StringBuilder();
 
         int counter = 1;
 
-        for (Map.Entry<LocalDate, Theatre> entry : this.entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : snapshot().entrySet()) {
             String date = formatter.toStringDate(entry.getKey());
             String showName = entry.getValue().getShowName();
-            double earnings = entry.getValue().getProfit();
-            message.append(String.format("%d. %s (on: %s): $%.2f\n", counter, showName, date, earnings));
+            String earnings = Money.format(entry.getValue().getProfit());
+            message.append(String.format("%d. %s (on: %s): $%s\n", counter, showName, date, earnings));
             counter++;
         }
+        financeListing = new FinanceListing(currentVersion, message.toString());
         return message.toString();
     }
 
     /**
      * Get all the shows that are scheduled and their dates.
+     * Read from a snapshot of the schedule, so the listing never holds up changes to the schedule.
      *
      * @return String message of all the shows that are registered.
      */
@@ -87,7 +365,7 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
 
         int counter = 1;
 
-        for (Map.Entry<LocalDate, Theatre> entry : this.entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : snapshot().entrySet()) {
             String date = formatter.toStringDate(entry.getKey());
             String showName = entry.getValue().getShowName();
 
@@ -101,16 +379,117 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
      * Get the list of show dates for the show in query.
      *
      * @param showName The name of the show.
-     * @return new ShowMap with shows that have the show in query.
+     * @return snapshot of the shows that have the show in query.
      */
-    public ShowMap listShow(String showName) {
-        ShowMap shows = new ShowMap();
-        for (Map.Entry<LocalDate, Theatre> entry : this.entrySet()) {
-            if (entry.getValue().hasSameName(showName)) {
-                shows.put(entry.getKey(), entry.getValue());
+    public ShowSnapshot listShow(String showName) {
+        return snapshot().filter(getShowDates(showName));
+    }
+
+    /**
+     * Get the dates of the show in query, in calendar order.
+     *
+     * @param showName The name of the show. Case insensitive.
+     * @return read-only view of the dates the show is scheduled on. Empty if there is no such show.
+     */
+    public NavigableSet<LocalDate> getShowDates(String showName) {
+        TreeSet<LocalDate> showDates = showNameIndex.get(SHOW_NAMES.findKeyId(showName));
+        if (showDates == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return Collections.unmodifiableNavigableSet(showDates);
+    }
+
+    /**
+     * Get the show names in this map starting with the prefix, in alphabetical order.
+     *
+     * @param prefix The start of the show name. Case insensitive.
+     * @param limit  The maximum number of names to return.
+     * @return list of show names.
+     */
+    public List<String> findShowNamesByPrefix(String prefix, int limit) {
+        return showNameTrie.findByPrefix(prefix, limit);
+    }
+
+    /**
+     * Get the show names in this map within maxEdits edits of the query, in alphabetical order.
+     *
+     * @param query    The show name to match. Case insensitive.
+     * @param maxEdits The maximum edit distance.
+     * @return list of show names.
+     */
+    public List<String> findSimilarShowNames(String query, int maxEdits) {
+        return showNameTrie.findSimilar(query, maxEdits);
+    }
+
+    /**
+     * Checks if the show on the given date has the name in query.
+     * Safe to run while the schedule is being changed.
+     *
+     * @param showDate The date of the show.
+     * @param showName The name of the show. Case insensitive.
+     * @return {@code true} if there is a show with that name on the date
+     * {@code false} otherwise
+     */
+    public boolean hasSameName(LocalDate showDate, String showName) {
+        Theatre theatre = this.get(showDate);
+        return theatre != null && theatre.getShowNameKey() == SHOW_NAMES.findKeyId(showName);
+    }
+
+    public int getChangeoverDays() {
+        return changeoverDays;
+    }
+
+    public void setChangeoverDays(int changeoverDays) {
+        this.changeoverDays = changeoverDays;
+    }
+
+    /**
+     * Set the clock used to price seats. Only takes effect on the shows once surcharges are next set.
+     *
+     * @param clock the clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    public boolean hasSurcharges() {
+        return pricingEngine.hasRules();
+    }
+
+    /**
+     * Set whether seat prices rise with demand and as shows draw near, for every show and every show added later.
+     *
+     * @param hasSurcharges {@code true} to add surcharges, {@code false} to sell seats at the price of their tier.
+     */
+    public synchronized void setSurcharges(boolean hasSurcharges) {
+        pricingEngine = hasSurcharges ? PricingEngine.withSurcharges(clock) : PricingEngine.DEFAULT;
+        for (Theatre theatre : values()) {
+            theatre.setPricingEngine(pricingEngine);
+        }
+    }
+
+    /**
+     * Find a show of another production too close to the given date to change over the theatre in between.
+     * Only the shows within the changeover days of the date are visited, so the check takes O(log n).
+     * Safe to run while the schedule is being changed.
+     *
+     * @param showName The name of the show to be put on the date. Case insensitive.
+     * @param showDate The date of the show.
+     * @return the date of the clashing show, or null if the theatre can change over in time.
+     */
+    public LocalDate findChangeoverClash(String showName, LocalDate showDate) {
+        if (changeoverDays == 0) {
+            return null;
+        }
+        int showNameKey = SHOW_NAMES.findKeyId(showName);
+        Map<LocalDate, Theatre> nearbyShows = this.range(showDate.minusDays(changeoverDays),
+                showDate.plusDays(changeoverDays + 1));
+        for (Map.Entry<LocalDate, Theatre> entry : nearbyShows.entrySet()) {
+            if (!entry.getKey().equals(showDate) && entry.getValue().getShowNameKey() != showNameKey) {
+                return entry.getKey();
             }
         }
-        return shows;
+        return null;
     }
 
     /**
@@ -118,18 +497,10 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
      *
      * @param startOfMonth The first day of month in query.
      * @param endOfMonth   The first day of the following month for the month in query.
-     * @return new ShowMap with shows that are within the month of query.
+     * @return snapshot of the shows that are within the month of query.
      */
-    public ShowMap listShow(LocalDate startOfMonth, LocalDate endOfMonth) {
-        ShowMap shows = new ShowMap();
-
-        while (startOfMonth.compareTo(endOfMonth) != 0) {
-            if (this.containsKey(startOfMonth)) {
-                shows.put(startOfMonth, this.get(startOfMonth));
-            }
-            startOfMonth = startOfMonth.plusDays(1);
-        }
-        return shows;
+    public ShowSnapshot listShow(LocalDate startOfMonth, LocalDate endOfMonth) {
+        return snapshot().range(startOfMonth, endOfMonth);
     }
 
     /**
@@ -138,7 +509,7 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
      * @param key the show to be removed.
      * @return the show that is removed.
      */
-    public Theatre deleteShow(Object key) {
+    public synchronized Theatre deleteShow(Object key) {
         Theatre show = this.get(key);
         this.remove(key);
 
@@ -147,31 +518,182 @@ public class ShowMap extends TreeMap<LocalDate, Theatre> {
 
     //// Command that deals with seats
 
+    /**
+     * Get the seat map of the show on the given date. Safe to run while the schedule is being changed.
+     *
+     * @param localDate The date of the show.
+     * @return the seat map.
+     */
     public String viewSeats(LocalDate localDate) {
         return this.get(localDate).getSeatingArrangement();
     }
 
+    /**
+     * Sell seats for the show on the given date.
+     *
+     * @param localDate The date of the show.
+     * @param seats     The seats to sell.
+     * @return Message detailing status of the sale.
+     */
     public String sellSeats(LocalDate localDate, String... seats) {
         return this.get(localDate).sellSeats(seats);
     }
 
+    /**
+     * Sell seats for the show on the given date, including the seats held for the customer.
+     *
+     * @param localDate The date of the show.
+     * @param holdId    The id of the hold of the customer, or 0 if they have none.
+     * @param seats     The seats to sell.
+     * @return Message detailing status of the sale.
+     */
+    public String sellSeats(LocalDate localDate, long holdId, String... seats) {
+        return this.get(localDate).sellSeats(holdId, seats);
+    }
 
+    /**
+     * Sell the best available block of seats next to each other for the show on the given date.
+     * The block is sold as a single unit, so a sale of one of its seats in the meantime never leaves it broken.
+     * The block is searched for again if that happens, a few times at most.
+     *
+     * @param localDate     The date of the show.
+     * @param numberOfSeats The number of seats to sell.
+     * @param tier          The tier of the seats, or null for any tier.
+     * @return Message detailing the seats sold, or an empty String if no block of seats is available.
+     */
+    public String sellBestSeats(LocalDate localDate, int numberOfSeats, SeatTier tier) {
+        Theatre theatre = this.get(localDate);
+        for (int attempt = 0; attempt < MAX_BEST_SEATS_ATTEMPTS; attempt++) {
+            String[] bestSeats = theatre.findBestSeats(numberOfSeats, tier);
+            if (bestSeats.length == 0) {
+                return "";
+            }
+            SeatTransaction transaction = new SeatTransaction().sell(localDate, bestSeats);
+            if (commitSeatTransaction(transaction).isEmpty()) {
+                return String.format(MESSAGE_BEST_SEATS_SOLD, Arrays.toString(bestSeats),
+                        Money.format(transaction.getTotalSold()));
+            }
+        }
+        return MESSAGE_SEATS_TAKEN;
+    }
+
+    /**
+     * Apply a batch of seat changes as a single unit. Nothing is changed if any change in the batch is invalid,
+     * or if another seller changes one of the seats before the batch has claimed it.
+     *
+     * @param transaction The batch of seat changes.
+     * @return Message detailing why the batch was not applied, or an empty String if the batch has been applied.
+     */
+    public String commitSeatTransaction(SeatTransaction transaction) {
+        String errors = transaction.validate(this);
+        if (!errors.isEmpty()) {
+            return errors;
+        }
+        if (!transaction.apply(this)) {
+            return MESSAGE_SEATS_TAKEN;
+        }
+        return "";
+    }
+
+    /**
+     * Reassign a seat for the show on the given date.
+     *
+     * @param showLocalDate The date of the show.
+     * @param oldSeat       The seat to be changed.
+     * @param newSeat       The seat to change to.
+     * @return Message detailing the success of reassignment.
+     */
     public String reassignSeat(LocalDate showLocalDate, String oldSeat, String newSeat) {
         return this.get(showLocalDate).reassignSeat(oldSeat, newSeat);
     }
 
+    /**
+     * Remove seat bookings for the show on the given date.
+     *
+     * @param localDate The date of the show.
+     * @param seats     The seats to remove.
+     * @return Message detailing status of the removal.
+     */
     public String removeSeats(LocalDate localDate, String... seats) {
         return this.get(localDate).removeSeat(seats);
     }
 
+    /**
+     * Refund seat bookings for the show on the given date.
+     *
+     * @param localDate The date of the show.
+     * @param seats     The seats to refund.
+     * @return Message detailing status of the refund.
+     */
     public String refundSeats(LocalDate localDate, String... seats) {
         return this.get(localDate).refundSeat(seats);
     }
 
-    public double getProfit(LocalDate localDate) {
+    public long getProfit(LocalDate localDate) {
         return this.get(localDate).getProfit();
     }
 
+    /**
+     * Get the total revenue of the shows from one date to another.
+     *
+     * @param from The first date, inclusive.
+     * @param to   The last date, inclusive.
+     * @return total revenue in cents over the dates.
+     */
+    public long getProfit(LocalDate from, LocalDate to) {
+        return revenue.getRevenue(from, to);
+    }
+
+    /**
+     * Get the total revenue of the shows in the month.
+     *
+     * @param month The month in query.
+     * @return total revenue in cents for the month.
+     */
+    public long getMonthlyProfit(YearMonth month) {
+        return revenue.getMonthlyRevenue(month);
+    }
+
+    /**
+     * Get the number of shows in the month.
+     *
+     * @param month The month in query.
+     * @return number of shows in the month.
+     */
+    public int getMonthlyShowCount(YearMonth month) {
+        return revenue.getMonthlyShowCount(month);
+    }
+
+    /**
+     * Get the total revenue across all dates of the show in query.
+     *
+     * @param showName The name of the show. Case insensitive.
+     * @return total revenue in cents for the show.
+     */
+    public long getShowProfit(String showName) {
+        return revenue.getShowRevenue(showName);
+    }
+
+    /**
+     * Get the total value of the seats currently sold in a tier across all shows.
+     *
+     * @param tier seat tier.
+     * @return total value in cents of the sold seats in the tier.
+     */
+    public long getTierProfit(SeatTier tier) {
+        return revenue.getTierRevenue(tier);
+    }
+
+    private static class FinanceListing {
+        private final long version;
+        private final String listing;
+
+        private FinanceListing(long version, String listing) {
+            this.version = version;
+            this.listing = listing;
+        }
+    }
+
     private void initLogger() {
         LogManager.getLogManager().reset();
         OPTIXLOGGER.setLevel(Level.ALL);
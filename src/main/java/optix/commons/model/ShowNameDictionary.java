@@ -0,0 +1,88 @@
+package optix.commons.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of every show name in use. Each distinct name is stored once and given an int id,
+ * so that the many dates of a production share one String.
+ * Names that only differ in case share a key id, so that comparing show names is an int compare.
+ * Only adding a name takes a lock. Looking up names and ids is safe from any thread without locking.
+ * Names are stored in arrays that double in size when full, so adding a name takes amortised O(1).
+ */
+public class ShowNameDictionary {
+    private static final ShowNameDictionary INSTANCE = new ShowNameDictionary();
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<String, Integer> keyIds = new ConcurrentHashMap<>();
+    // name and key id of each id. Only written under the lock, and replaced by larger copies when full.
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+    private volatile int[] keyIdOfName = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public static ShowNameDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the id of a show name, adding the name to the dictionary if it is new.
+     *
+     * @param showName The name of the show.
+     * @return id of the name.
+     */
+    public synchronized int intern(String showName) {
+        Integer id = ids.get(showName);
+        if (id != null) {
+            return id;
+        }
+        id = size++;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+            keyIdOfName = Arrays.copyOf(keyIdOfName, id * 2);
+        }
+        String key = Show.normalizeName(showName);
+        Integer keyId = keyIds.get(key);
+        if (keyId == null) {
+            keyId = keyIds.size();
+        }
+        // publish the id of the name only after its entries in the arrays, for readers that do not lock.
+        names[id] = showName;
+        keyIdOfName[id] = keyId;
+        keyIds.put(key, keyId);
+        ids.put(showName, id);
+        return id;
+    }
+
+    /**
+     * Get the show name of an id.
+     *
+     * @param id id of the name.
+     * @return the show name.
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * Get the key id of a name id. Names that only differ in case have the same key id.
+     *
+     * @param id id of the name.
+     * @return key id of the name.
+     */
+    public int getKeyId(int id) {
+        return keyIdOfName[id];
+    }
+
+    /**
+     * Get the key id of a show name without adding it to the dictionary.
+     *
+     * @param showName The name of the show. Case insensitive.
+     * @return key id of the name, or -1 if no show has that name.
+     */
+    public int findKeyId(String showName) {
+        return keyIds.getOrDefault(Show.normalizeName(showName), -1);
+    }
+}
@@ -0,0 +1,137 @@
+package optix.commons.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trie over show names. Supports prefix completion and searching for names
+ * within a bounded edit distance of a mistyped name.
+ */
+public class ShowNameTrie {
+    private final Node root = new Node();
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        // Show name as first entered. Only set on the node where a show name ends.
+        private String showName;
+        // Number of shows registered under this name.
+        private int count;
+    }
+
+    /**
+     * Register a show under its name.
+     *
+     * @param showName The name of the show.
+     */
+    public void add(String showName) {
+        Node node = root;
+        for (char c : Show.normalizeName(showName).toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new Node());
+        }
+        if (node.count == 0) {
+            node.showName = showName;
+        }
+        node.count++;
+    }
+
+    /**
+     * Unregister a show under its name. The name is dropped once no show uses it.
+     *
+     * @param showName The name of the show.
+     */
+    public void remove(String showName) {
+        remove(root, Show.normalizeName(showName), 0);
+    }
+
+    private boolean remove(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            if (node.count > 0 && --node.count == 0) {
+                node.showName = null;
+            }
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child != null && remove(child, key, depth + 1)) {
+                node.children.remove(key.charAt(depth));
+            }
+        }
+        return node.count == 0 && node.children.isEmpty();
+    }
+
+    /**
+     * Get the show names starting with the prefix, in alphabetical order.
+     *
+     * @param prefix The start of the show name. Case insensitive.
+     * @param limit  The maximum number of names to return.
+     * @return list of show names.
+     */
+    public List<String> findByPrefix(String prefix, int limit) {
+        List<String> matches = new ArrayList<>();
+        Node node = root;
+        for (char c : Show.normalizeName(prefix).toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return matches;
+            }
+        }
+        collect(node, limit, matches);
+        return matches;
+    }
+
+    private void collect(Node node, int limit, List<String> matches) {
+        if (matches.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            matches.add(node.showName);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, limit, matches);
+        }
+    }
+
+    /**
+     * Get the show names that are at most maxEdits insertions, deletions or substitutions
+     * away from the query, in alphabetical order.
+     * Branches of the trie are pruned as soon as every prefix is too far from the query.
+     *
+     * @param query    The show name to match. Case insensitive.
+     * @param maxEdits The maximum edit distance.
+     * @return list of show names.
+     */
+    public List<String> findSimilar(String query, int maxEdits) {
+        String key = Show.normalizeName(query);
+        List<String> matches = new ArrayList<>();
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        for (Map.Entry<Character, Node> entry : root.children.entrySet()) {
+            findSimilar(entry.getValue(), entry.getKey(), key, firstRow, maxEdits, matches);
+        }
+        return matches;
+    }
+
+    private void findSimilar(Node node, char c, String key, int[] previousRow, int maxEdits, List<String> matches) {
+        int[] currentRow = new int[previousRow.length];
+        currentRow[0] = previousRow[0] + 1;
+        int minDistance = currentRow[0];
+
+        for (int i = 1; i < currentRow.length; i++) {
+            int substituteCost = key.charAt(i - 1) == c ? 0 : 1;
+            currentRow[i] = Math.min(Math.min(currentRow[i - 1] + 1, previousRow[i] + 1),
+                    previousRow[i - 1] + substituteCost);
+            minDistance = Math.min(minDistance, currentRow[i]);
+        }
+
+        if (node.count > 0 && currentRow[currentRow.length - 1] <= maxEdits) {
+            matches.add(node.showName);
+        }
+        if (minDistance <= maxEdits) {
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                findSimilar(entry.getValue(), entry.getKey(), key, currentRow, maxEdits, matches);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package optix.commons.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Read-only view of the schedule of a ShowMap at one version.
+ * A snapshot never changes once taken, so readers such as the GUI and the save file writer
+ * can iterate it while the ShowMap keeps changing. The shows of each month are copied only when the month changes,
+ * so a snapshot taken after a change shares every other month with the snapshot taken before it.
+ * Filtered snapshots and calendar ranges share the months of the snapshot they were taken from instead of copying
+ * shows into a new ShowMap, so their cost depends on the number of shows in them rather than the number of days.
+ * The shows themselves are shared with the ShowMap, so seats sold after the snapshot was taken are visible.
+ */
+public class ShowSnapshot extends AbstractMap<LocalDate, Theatre> {
+    public static final ShowSnapshot EMPTY = new ShowSnapshot(0, Collections.emptyNavigableMap(), 0);
+
+    private final long version;
+    // shows of each month, never changed once taken.
+    private final NavigableMap<YearMonth, NavigableMap<LocalDate, Theatre>> months;
+    // dates in the view, or null for every date of the schedule.
+    private final NavigableSet<LocalDate> dates;
+    // range of dates of the view, null when unbounded.
+    private final LocalDate lowerBound;
+    private final LocalDate upperBoundExclusive;
+    // number of shows in the view, counted on first use.
+    private int size = -1;
+
+    /**
+     * Take a snapshot of a schedule.
+     *
+     * @param version version of the ShowMap the snapshot was taken from.
+     * @param months  copy of the shows of each month that is never changed afterwards.
+     * @param size    number of shows in the schedule.
+     */
+    ShowSnapshot(long version, NavigableMap<YearMonth, NavigableMap<LocalDate, Theatre>> months, int size) {
+        this(version, Collections.unmodifiableNavigableMap(months), null, null, null);
+        this.size = size;
+    }
+
+    private ShowSnapshot(long version, NavigableMap<YearMonth, NavigableMap<LocalDate, Theatre>> months,
+                         NavigableSet<LocalDate> dates, LocalDate lowerBound, LocalDate upperBoundExclusive) {
+        this.version = version;
+        this.months = months;
+        this.dates = dates;
+        this.lowerBound = lowerBound;
+        this.upperBoundExclusive = upperBoundExclusive;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get a view of the shows on the given dates.
+     *
+     * @param showDates dates to keep. Dates without a show are left out.
+     * @return snapshot of the shows on the dates.
+     */
+    public ShowSnapshot filter(Set<LocalDate> showDates) {
+        TreeSet<LocalDate> filteredDates = new TreeSet<>();
+        for (LocalDate showDate : showDates) {
+            if (containsKey(showDate)) {
+                filteredDates.add(showDate);
+            }
+        }
+        return new ShowSnapshot(version, months, Collections.unmodifiableNavigableSet(filteredDates),
+                lowerBound, upperBoundExclusive);
+    }
+
+    /**
+     * Get a view of the shows from one date up to, but not including, another.
+     *
+     * @param from        first date of the range.
+     * @param toExclusive the day after the last date of the range.
+     * @return snapshot of the shows in the range.
+     */
+    public ShowSnapshot range(LocalDate from, LocalDate toExclusive) {
+        if (lowerBound != null && from.isBefore(lowerBound)) {
+            from = lowerBound;
+        }
+        if (upperBoundExclusive != null && toExclusive.isAfter(upperBoundExclusive)) {
+            toExclusive = upperBoundExclusive;
+        }
+        if (!from.isBefore(toExclusive)) {
+            return new ShowSnapshot(version, months, Collections.emptyNavigableSet(), from, from);
+        }
+        if (dates == null) {
+            return new ShowSnapshot(version, months.subMap(YearMonth.from(from), true,
+                    YearMonth.from(toExclusive.minusDays(1)), true), null, from, toExclusive);
+        }
+        return new ShowSnapshot(version, months, dates.subSet(from, true, toExclusive, false), from, toExclusive);
+    }
+
+    public ShowSnapshot day(LocalDate date) {
+        return range(date, date.plusDays(1));
+    }
+
+    /**
+     * Get a view of the shows in the week, from Monday to Sunday, of the given date.
+     *
+     * @param date any date in the week.
+     * @return snapshot of the shows in the week.
+     */
+    public ShowSnapshot week(LocalDate date) {
+        LocalDate monday = date.with(DayOfWeek.MONDAY);
+        return range(monday, monday.plusWeeks(1));
+    }
+
+    public ShowSnapshot month(YearMonth month) {
+        return range(month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * Get a view of the shows in a quarter of the year.
+     *
+     * @param year    the year.
+     * @param quarter the quarter from 1 to 4.
+     * @return snapshot of the shows in the quarter.
+     */
+    public ShowSnapshot quarter(int year, int quarter) {
+        assert quarter >= 1 && quarter <= 4;
+        YearMonth firstMonth = YearMonth.of(year, (quarter - 1) * 3 + 1);
+        return range(firstMonth.atDay(1), firstMonth.plusMonths(3).atDay(1));
+    }
+
+    @Override
+    public Theatre get(Object key) {
+        if (!(key instanceof LocalDate)) {
+            return null;
+        }
+        LocalDate showDate = (LocalDate) key;
+        if (dates != null ? !dates.contains(showDate) : !isInRange(showDate)) {
+            return null;
+        }
+        NavigableMap<LocalDate, Theatre> monthShows = months.get(YearMonth.from(showDate));
+        return monthShows == null ? null : monthShows.get(showDate);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        if (dates != null) {
+            return dates.size();
+        }
+        if (size < 0) {
+            int count = 0;
+            for (NavigableMap<LocalDate, Theatre> monthShows : months.values()) {
+                count += showsInRange(monthShows).size();
+            }
+            size = count;
+        }
+        return size;
+    }
+
+    private boolean isInRange(LocalDate showDate) {
+        return lowerBound == null || (!showDate.isBefore(lowerBound) && showDate.isBefore(upperBoundExclusive));
+    }
+
+    private NavigableMap<LocalDate, Theatre> showsInRange(NavigableMap<LocalDate, Theatre> monthShows) {
+        return lowerBound == null ? monthShows : monthShows.subMap(lowerBound, true, upperBoundExclusive, false);
+    }
+
+    @Override
+    public Set<Entry<LocalDate, Theatre>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<LocalDate, Theatre>> iterator() {
+                return dates == null ? new MonthIterator() : new DateIterator();
+            }
+
+            @Override
+            public int size() {
+                return ShowSnapshot.this.size();
+            }
+        };
+    }
+
+    /**
+     * Goes through the months in calendar order, and through the shows of each month in the range in date order.
+     */
+    private class MonthIterator implements Iterator<Entry<LocalDate, Theatre>> {
+        private final Iterator<NavigableMap<LocalDate, Theatre>> monthIterator = months.values().iterator();
+        private Iterator<Entry<LocalDate, Theatre>> showIterator = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!showIterator.hasNext() && monthIterator.hasNext()) {
+                showIterator = showsInRange(monthIterator.next()).entrySet().iterator();
+            }
+            return showIterator.hasNext();
+        }
+
+        @Override
+        public Entry<LocalDate, Theatre> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return showIterator.next();
+        }
+    }
+
+    /**
+     * Goes through the dates of a filtered view in date order.
+     */
+    private class DateIterator implements Iterator<Entry<LocalDate, Theatre>> {
+        private final Iterator<LocalDate> dateIterator = dates.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return dateIterator.hasNext();
+        }
+
+        @Override
+        public Entry<LocalDate, Theatre> next() {
+            LocalDate showDate = dateIterator.next();
+            return new SimpleImmutableEntry<>(showDate, months.get(YearMonth.from(showDate)).get(showDate));
+        }
+    }
+}
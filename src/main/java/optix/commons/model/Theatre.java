@@ -1,31 +1,110 @@
 package optix.commons.model;
 
+import optix.util.Money;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A show and its seats. Seats are claimed with a single compare-and-set on the state of the seat,
+ * so any number of sellers may sell, remove, refund and hold seats of the same show at once without locking,
+ * and the counters and revenue of the show are kept in atomic counters updated after each claim.
+ * Every change to a seat is pushed to the subscribers of the seat map of the show.
+ * Renaming and rescheduling the show give it a new version stamp, so staff edits made from an older reading
+ * of the show can be detected and retried instead of overwriting a newer edit.
+ */
 public class Theatre {
     //@SuppressWarnings("checkstyle:membername")
     private static final String SPACES = "  "; // CHECKSTYLE IGNORE THIS LINE
     private static final String STAGE = "                |STAGE|           \n"; // CHECKSTYLE IGNORE THIS LINE
-    private static final String MESSAGE_TICKET_COST = "The total cost of the tickets are $%1$.2f\n";
+    private static final String MESSAGE_TICKET_COST = "The total cost of the tickets are $%1$s\n";
+    // source of version stamps, shared by every show so that no two shows ever have the same stamp.
+    private static final AtomicLong VERSION_STAMPS = new AtomicLong();
 
     private Seat[][] seats = new Seat[6][10];
-    private int tierOneSeats;
-    private int tierTwoSeats;
-    private int tierThreeSeats;
-    private double seatBasePrice;
+    // bitmap of the unsold seats in each row, bit j is set when the seat in column j is available.
+    // Updated after the seat itself, so it may briefly lag behind the seats and is only used to find candidates.
+    private final AtomicLongArray freeSeats = new AtomicLongArray(seats.length);
+    // number of seats left in each tier, indexed by tier ordinal.
+    private final AtomicIntegerArray seatsLeft = new AtomicIntegerArray(SeatTier.count());
+    // base price of seats in cents.
+    private long seatBasePrice;
+    private TierPricing pricing = TierPricing.DEFAULT;
+    // price in cents of a seat in each tier before adjustments, computed once from the base price and indexed by tier ordinal.
+    private long[] basePrices;
+    // current price in cents of a seat in each tier, indexed by tier ordinal.
+    // Repriced only when the occupancy of the tier or the adjustment for the whole show changes.
+    private AtomicLongArray tierPrices;
+    // number of seats in each tier, indexed by tier ordinal.
+    private int[] tierCapacity = new int[SeatTier.count()];
+    private volatile PricingEngine pricingEngine = PricingEngine.DEFAULT;
+    private volatile LocalDate showDate;
+    // times in milliseconds of the seat sales within the sales window, oldest first, and how many there are.
+    private final ConcurrentLinkedDeque<Long> recentSales = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recentSalesCount = new AtomicInteger();
+    // adjustment in percent for every tier, from the days until the show and the sales velocity,
+    // together with the inputs it was evaluated with.
+    private final AtomicReference<ShowPricing> showPricing = new AtomicReference<>(new ShowPricing(null, 0, 0));
+    // value in cents of the seats currently sold in each tier, indexed by tier ordinal.
+    private final LongAdder[] tierRevenue = new LongAdder[SeatTier.count()];
+
+    private final SeatMapPublisher seatChanges = new SeatMapPublisher(this, seats.length, seats[0].length);
 
     private Show show;
+    private volatile RevenueListener revenueListener;
+    private volatile long version = VERSION_STAMPS.incrementAndGet();
+
+    /**
+     * Listener told of every change to the revenue of a show, so that totals over many shows can be kept
+     * up to date without reading the show before and after each change.
+     */
+    public interface RevenueListener {
+        /**
+         * Called after the revenue of a show has changed.
+         *
+         * @param theatre           The show.
+         * @param tier              The tier of the seat that changed.
+         * @param profitChange      The change in the revenue of the show in cents.
+         * @param tierRevenueChange The change in the value of the seats sold in the tier in cents.
+         */
+        void revenueChanged(Theatre theatre, SeatTier tier, long profitChange, long tierRevenueChange);
+    }
 
     /**
      * instantiates Theatre Object. Used when loading save file data.
      *
      * @param showName      name of show
-     * @param revenue       expected revenue, calculated from seat purchases - cost
-     * @param seatBasePrice base price of seats
+     * @param revenue       expected revenue in cents, calculated from seat purchases - cost
+     * @param seatBasePrice base price of seats in cents
+     */
+    public Theatre(String showName, long revenue, long seatBasePrice) {
+        this(showName, revenue, seatBasePrice, TierPricing.DEFAULT);
+    }
+
+    /**
+     * instantiates Theatre Object with its own tier pricing rule. Used when loading save file data.
+     *
+     * @param showName      name of show
+     * @param revenue       expected revenue in cents, calculated from seat purchases - cost
+     * @param seatBasePrice base price of seats in cents
+     * @param pricing       percentage of the base price charged for each tier
      */
-    public Theatre(String showName, double revenue, double seatBasePrice) {
+    public Theatre(String showName, long revenue, long seatBasePrice, TierPricing pricing) {
         show = new Show(showName, revenue);
         this.seatBasePrice = seatBasePrice;
+        this.pricing = pricing;
+        this.basePrices = pricing.getPrices(seatBasePrice);
+        this.tierPrices = new AtomicLongArray(basePrices);
+        initializeRevenue();
         initializeLayout();
     }
 
@@ -33,41 +112,49 @@ public class Theatre {
      * Instantiates Theatre Object. Used when there is no revenue yet (fresh instance).
      *
      * @param showName      name of show
-     * @param seatBasePrice base price of seats.
+     * @param seatBasePrice base price of seats in cents.
      */
-    public Theatre(String showName, double seatBasePrice) {
-        show = new Show(showName, 0);
-        this.seatBasePrice = seatBasePrice;
-        initializeLayout();
+    public Theatre(String showName, long seatBasePrice) {
+        this(showName, 0, seatBasePrice, TierPricing.DEFAULT);
     }
 
     public Theatre(Show show) {
         this.show = show;
+        this.basePrices = pricing.getPrices(seatBasePrice);
+        this.tierPrices = new AtomicLongArray(basePrices);
+        initializeRevenue();
+    }
+
+    private void initializeRevenue() {
+        for (int i = 0; i < tierRevenue.length; i++) {
+            tierRevenue[i] = new LongAdder();
+        }
     }
 
     // can have multiple layouts to be added for future extensions.
 
     private void initializeLayout() {
-        tierOneSeats = 0;
-        tierTwoSeats = 0;
-        tierThreeSeats = 0;
         for (int i = 0; i < seats.length; i++) {
+            freeSeats.set(i, (1L << seats[i].length) - 1);
             for (int j = 0; j < seats[i].length; j++) {
                 switch (i) {
                 case 0:
                 case 1:
-                    seats[i][j] = new Seat("3");
-                    tierThreeSeats++;
+                    seats[i][j] = new Seat(SeatTier.THREE);
+                    seatsLeft.incrementAndGet(SeatTier.THREE.ordinal());
+                    tierCapacity[SeatTier.THREE.ordinal()]++;
                     break;
                 case 2:
                 case 3:
-                    seats[i][j] = new Seat("2");
-                    tierTwoSeats++;
+                    seats[i][j] = new Seat(SeatTier.TWO);
+                    seatsLeft.incrementAndGet(SeatTier.TWO.ordinal());
+                    tierCapacity[SeatTier.TWO.ordinal()]++;
                     break;
                 case 4:
                 case 5:
-                    seats[i][j] = new Seat("1");
-                    tierOneSeats++;
+                    seats[i][j] = new Seat(SeatTier.ONE);
+                    seatsLeft.incrementAndGet(SeatTier.ONE.ordinal());
+                    tierCapacity[SeatTier.ONE.ordinal()]++;
                     break;
                 default:
                     assert i > seats.length;
@@ -85,7 +172,15 @@ public class Theatre {
         return show.getShowName();
     }
 
-    public double getProfit() {
+    public int getShowNameId() {
+        return show.getShowNameId();
+    }
+
+    public int getShowNameKey() {
+        return show.getShowNameKey();
+    }
+
+    public long getProfit() {
         return show.getProfit();
     }
 
@@ -93,66 +188,373 @@ public class Theatre {
         return seats;
     }
 
+    /**
+     * Get the publisher of the changes to the seats of the show, so that views can redraw only the seats that changed.
+     *
+     * @return the publisher of seat deltas.
+     */
+    public Flow.Publisher<SeatDelta> getSeatChanges() {
+        return seatChanges;
+    }
+
+    SeatDelta getSeatDelta(int row, int col) {
+        Seat seat = seats[row][col];
+        SeatDelta.Status status;
+        if (seat.isSold()) {
+            status = SeatDelta.Status.SOLD;
+        } else if (seat.isAvailable()) {
+            status = SeatDelta.Status.AVAILABLE;
+        } else {
+            status = SeatDelta.Status.HELD;
+        }
+        return new SeatDelta(showDate, row, col, status);
+    }
+
     public String getTierOneSeats() {
-        return Integer.toString(tierOneSeats);
+        return Integer.toString(seatsLeft.get(SeatTier.ONE.ordinal()));
     }
 
     public String getTierTwoSeats() {
-        return Integer.toString(tierTwoSeats);
+        return Integer.toString(seatsLeft.get(SeatTier.TWO.ordinal()));
     }
 
     public String getTierThreeSeats() {
-        return Integer.toString(tierThreeSeats);
+        return Integer.toString(seatsLeft.get(SeatTier.THREE.ordinal()));
     }
 
-    public double getSeatBasePrice() {
+    public long getSeatBasePrice() {
         return seatBasePrice;
     }
 
+    public TierPricing getPricing() {
+        return pricing;
+    }
+
+    /**
+     * Get the value of the seats currently sold in a tier.
+     *
+     * @param tier seat tier.
+     * @return total price in cents of the sold seats in the tier.
+     */
+    public long getTierRevenue(SeatTier tier) {
+        return tierRevenue[tier.ordinal()].sum();
+    }
+
+    /**
+     * Get the version stamp of the show, which changes whenever the show is renamed or rescheduled.
+     *
+     * @return the version stamp.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Give the show a new version stamp after it has been renamed or rescheduled.
+     */
+    void stampVersion() {
+        version = VERSION_STAMPS.incrementAndGet();
+    }
+
+    public LocalDate getShowDate() {
+        return showDate;
+    }
+
+    /**
+     * Set the date of the show, used to price seats by the days until the show.
+     *
+     * @param showDate date of the show.
+     */
+    public void setShowDate(LocalDate showDate) {
+        this.showDate = showDate;
+        showPricing.updateAndGet(ShowPricing::stale);
+    }
+
+    /**
+     * Set the listener told of every change to the revenue of the show.
+     *
+     * @param revenueListener the listener, or null to stop telling anyone.
+     */
+    public void setRevenueListener(RevenueListener revenueListener) {
+        this.revenueListener = revenueListener;
+    }
+
+    public PricingEngine getPricingEngine() {
+        return pricingEngine;
+    }
+
+    /**
+     * Set the engine used to price seats.
+     *
+     * @param pricingEngine the pricing engine.
+     */
+    public void setPricingEngine(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+        this.recentSales.clear();
+        this.recentSalesCount.set(0);
+        showPricing.updateAndGet(ShowPricing::stale);
+        for (SeatTier tier : SeatTier.values()) {
+            repriceTier(tier.ordinal());
+        }
+    }
+
     /**
      * function to set the status of a seat (change it to booked when a seat is bought).
+     * Used when loading save files that do not have the price each seat was sold for.
      *
      * @param row desired seat row
      * @param col desired seat column
      */
     public void setSeat(int row, int col) {
-        seats[row][col].setSold(true);
-        switch (seats[row][col].getSeatTier()) {
-        case "1":
-            tierOneSeats--;
-            break;
-        case "2":
-            tierTwoSeats--;
-            break;
-        case "3":
-            tierThreeSeats--;
-            break;
-        default:
-            System.out.println("Should have a Seat Tier!");
+        setSeat(row, col, basePrices[seats[row][col].getSeatTier().ordinal()]);
+    }
+
+    /**
+     * function to set the status of a seat (change it to booked when a seat is bought).
+     *
+     * @param row       desired seat row
+     * @param col       desired seat column
+     * @param pricePaid price in cents the seat was sold for
+     */
+    public void setSeat(int row, int col, long pricePaid) {
+        long holdId = seats[row][col].trySell(pricePaid);
+        if (holdId != -1) {
+            seatSold(row, col, pricePaid, 0, holdId != 0);
         }
     }
 
     /**
      * function to reset the status of a seat (change it to available when a seat is removed).
+     * The revenue of the show is left as it is.
      *
      * @param row desired seat row
      * @param col desired seat column
      */
     public void resetSeat(int row, int col) {
-        seats[row][col].setSold(false);
-        switch (seats[row][col].getSeatTier()) {
-        case "1":
-            tierOneSeats++;
-            break;
-        case "2":
-            tierTwoSeats++;
-            break;
-        case "3":
-            tierThreeSeats++;
-            break;
-        default:
-            System.out.println("Should have a Seat Tier!");
+        long pricePaid = seats[row][col].tryUnsell();
+        if (pricePaid != -1) {
+            seatUnsold(row, col, pricePaid, 0);
+        }
+    }
+
+    /**
+     * Update the counters of the show after a seat has been sold.
+     *
+     * @param pricePaid    price in cents the seat was sold for.
+     * @param profitChange change in cents to the revenue of the show.
+     * @param wasHeld      whether the seat was held, in which case it was already counted as taken.
+     */
+    private void seatSold(int row, int col, long pricePaid, long profitChange, boolean wasHeld) {
+        SeatTier tier = seats[row][col].getSeatTier();
+        show.addProfit(profitChange);
+        tierRevenue[tier.ordinal()].add(pricePaid);
+        if (!wasHeld) {
+            seatsLeft.decrementAndGet(tier.ordinal());
+            repriceTier(tier.ordinal());
+        }
+        seatChanged(row, col);
+        notifyRevenueChanged(tier, profitChange, pricePaid);
+    }
+
+    /**
+     * Update the counters of the show after a sold seat has been made available again.
+     *
+     * @param pricePaid    price in cents the seat was sold for.
+     * @param profitChange change in cents to the revenue of the show.
+     */
+    private void seatUnsold(int row, int col, long pricePaid, long profitChange) {
+        SeatTier tier = seats[row][col].getSeatTier();
+        show.addProfit(profitChange);
+        tierRevenue[tier.ordinal()].add(-pricePaid);
+        seatsLeft.incrementAndGet(tier.ordinal());
+        repriceTier(tier.ordinal());
+        seatChanged(row, col);
+        notifyRevenueChanged(tier, profitChange, -pricePaid);
+    }
+
+    private void notifyRevenueChanged(SeatTier tier, long profitChange, long tierRevenueChange) {
+        RevenueListener listener = revenueListener;
+        if (listener != null && (profitChange != 0 || tierRevenueChange != 0)) {
+            listener.revenueChanged(this, tier, profitChange, tierRevenueChange);
+        }
+    }
+
+    /**
+     * Bring the bitmap of free seats in line with a seat that has changed and tell the subscribers of the seat map.
+     */
+    private void seatChanged(int row, int col) {
+        refreshFreeSeat(row, col);
+        seatChanges.seatChanged(row, col);
+    }
+
+    /**
+     * Bring the bit of a seat in the bitmap of free seats in line with the seat.
+     * The bit is checked again after every update, so whichever seller changes the seat last leaves the bit right.
+     */
+    private void refreshFreeSeat(int row, int col) {
+        long bit = 1L << col;
+        Seat seat = seats[row][col];
+        while (true) {
+            long current = freeSeats.get(row);
+            boolean isAvailable = seat.isAvailable();
+            long updated = isAvailable ? current | bit : current & ~bit;
+            if (updated == current) {
+                if (seat.isAvailable() == isAvailable) {
+                    return;
+                }
+            } else {
+                freeSeats.compareAndSet(row, current, updated);
+            }
+        }
+    }
+
+    /**
+     * Get the current price of a seat in a tier.
+     *
+     * @param tier seat tier.
+     * @return price of a seat in the tier in cents.
+     */
+    public long getTierPrice(SeatTier tier) {
+        refreshShowAdjustment();
+        return tierPrices.get(tier.ordinal());
+    }
+
+    private long getSeatPrice(int row, int col) {
+        return tierPrices.get(seats[row][col].getSeatTier().ordinal());
+    }
+
+    /**
+     * Reprice every tier if the days until the show or the number of recent sales have changed.
+     * The adjustment is swapped in together with its inputs by a compare-and-set, so sellers racing to reprice
+     * never leave an adjustment worked out from older inputs than the ones recorded with it.
+     */
+    private void refreshShowAdjustment() {
+        long now = pricingEngine.getCurrentMillis();
+        long windowStart = now - PricingEngine.SALES_WINDOW.toMillis();
+        Long oldest = recentSales.peekFirst();
+        while (oldest != null && oldest <= windowStart) {
+            if (recentSales.removeFirstOccurrence(oldest)) {
+                recentSalesCount.decrementAndGet();
+            }
+            oldest = recentSales.peekFirst();
+        }
+
+        while (true) {
+            // read before the inputs, so the inputs are never older than the ones recorded in it.
+            ShowPricing current = showPricing.get();
+            LocalDate today = pricingEngine.getToday();
+            int salesCount = recentSalesCount.get();
+            if (today.equals(current.pricedOn) && salesCount == current.salesCount) {
+                return;
+            }
+
+            long daysUntilShow = showDate == null ? -1 : ChronoUnit.DAYS.between(today, showDate);
+            int adjustment = pricingEngine.getShowAdjustment(daysUntilShow, salesCount);
+            if (showPricing.compareAndSet(current, new ShowPricing(today, salesCount, adjustment))) {
+                if (adjustment != current.adjustment) {
+                    for (SeatTier tier : SeatTier.values()) {
+                        repriceTier(tier.ordinal());
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reprice a tier from its occupancy. Repeated until the number of seats left and the show adjustment stay
+     * the same while pricing, so a price worked out from old inputs never outlives a price worked out from newer ones.
+     */
+    private void repriceTier(int tier) {
+        int left;
+        ShowPricing current;
+        do {
+            left = seatsLeft.get(tier);
+            current = showPricing.get();
+            int occupancyPercent = tierCapacity[tier] == 0 ? 0 : (tierCapacity[tier] - left) * 100 / tierCapacity[tier];
+            int adjustment = current.adjustment + pricingEngine.getOccupancyAdjustment(occupancyPercent);
+            tierPrices.set(tier, PricingEngine.adjust(basePrices[tier], adjustment));
+        } while (seatsLeft.get(tier) != left || showPricing.get() != current);
+    }
+
+    /**
+     * Find the best available block of seats next to each other in the same row.
+     * The block closest to the centre of a row is preferred, then the row closest to the stage.
+     * When no tier is given, the most precious tier with such a block is used.
+     *
+     * @param numberOfSeats number of seats wanted.
+     * @param tier          tier of the seats, or null for any tier.
+     * @return the seat numbers of the block, or an empty array if no block is available.
+     */
+    public String[] findBestSeats(int numberOfSeats, SeatTier tier) {
+        if (tier != null) {
+            return findBestSeatsInTier(numberOfSeats, tier);
+        }
+        for (int i = SeatTier.count(); i > 0; i--) {
+            String[] bestSeats = findBestSeatsInTier(numberOfSeats, SeatTier.of(i));
+            if (bestSeats.length > 0) {
+                return bestSeats;
+            }
+        }
+        return new String[0];
+    }
+
+    private String[] findBestSeatsInTier(int numberOfSeats, SeatTier tier) {
+        int bestRow = -1;
+        int bestCol = -1;
+        int bestOffset = Integer.MAX_VALUE;
+        for (int row = 0; row < seats.length; row++) {
+            int rowLength = seats[row].length;
+            if (seats[row][0].getSeatTier() != tier || numberOfSeats <= 0 || numberOfSeats > rowLength) {
+                continue;
+            }
+            long starts = getBlockStarts(freeSeats.get(row), numberOfSeats);
+            while (starts != 0) {
+                int col = Long.numberOfTrailingZeros(starts);
+                starts &= starts - 1;
+                // twice the distance between the centre of the block and the centre of the row.
+                int offset = Math.abs(2 * col + numberOfSeats - rowLength);
+                if (offset < bestOffset) {
+                    bestOffset = offset;
+                    bestRow = row;
+                    bestCol = col;
+                }
+            }
         }
+
+        if (bestRow == -1) {
+            return new String[0];
+        }
+        String[] bestSeats = new String[numberOfSeats];
+        for (int i = 0; i < numberOfSeats; i++) {
+            bestSeats[i] = getSeatNumber(bestRow, bestCol + i);
+        }
+        return bestSeats;
+    }
+
+    /**
+     * Get the columns at which a run of free seats of the given length starts.
+     * Runs are found by doubling, so it takes O(log length) bitwise operations.
+     *
+     * @param free   bitmap of the free seats in a row.
+     * @param length length of the run.
+     * @return bitmap with bit j set when the seats from column j to j + length - 1 are all free.
+     */
+    private static long getBlockStarts(long free, int length) {
+        long starts = free;
+        int runLength = 1;
+        while (runLength * 2 <= length) {
+            starts &= starts >>> runLength;
+            runLength *= 2;
+        }
+        if (runLength < length) {
+            starts &= starts >>> (length - runLength);
+        }
+        return starts;
+    }
+
+    private String getSeatNumber(int row, int col) {
+        return (char) ('A' + row) + Integer.toString(col + 1);
     }
 
     /**
@@ -176,40 +578,61 @@ public class Theatre {
     }
 
     private String getSeatsLeft() {
-        return "\nTier 1 Seats (rows E and F): " + tierOneSeats + "\n"
-                + "Tier 2 Seats (rows C and D): " + tierTwoSeats + "\n"
-                + "Tier 3 Seats (rows A and B): " + tierThreeSeats + "\n";
+        return "\nTier 1 Seats (rows E and F): " + getTierOneSeats() + "\n"
+                + "Tier 2 Seats (rows C and D): " + getTierTwoSeats() + "\n"
+                + "Tier 3 Seats (rows A and B): " + getTierThreeSeats() + "\n";
     }
 
 
     /**
-     * Sell seats to customers.
+     * Sell seats to customers. The seat is claimed with a single compare-and-set,
+     * so when several sellers try to sell the same seat exactly one of them succeeds.
      *
      * @param seat desired seat
-     * @return cost of seat.
+     * @return cost of seat in cents, 0 if the seat is unavailable, or -1 if the seat does not exist.
      */
-    public double sellSeats(String seat) {
+    public long sellSeats(String seat) {
+        return sellSeat(seat, 0);
+    }
+
+    /**
+     * Sell a seat that is available or held under the given hold.
+     *
+     * @param seat   desired seat
+     * @param holdId id of the hold of the customer, or 0 if they have none.
+     * @return cost of seat in cents, 0 if the seat is unavailable, or -1 if the seat does not exist.
+     */
+    private long sellSeat(String seat, long holdId) {
         int row = getRow(seat.substring(0, 1));
         int col = getCol(seat.substring(1));
 
-        double costOfSeat = 0;
-
         //This needs to be changed in the event that the theatre dont have fixed seats for each row
         if (row == -1 || col == -1) {
-            costOfSeat = -1;
-            return costOfSeat;
+            return -1;
         }
+        long costOfSeat = sellSeat(row, col, holdId);
+        return costOfSeat == -1 ? 0 : costOfSeat;
+    }
 
-        double revenue = show.getProfit();
-
-        if (!seats[row][col].isSold()) {
-            Seat soldSeat = seats[row][col];
-            soldSeat.setSold(true);
-            costOfSeat = soldSeat.getSeatPrice(seatBasePrice);
-            revenue += costOfSeat;
-            this.setSeat(row, col);
+    /**
+     * Sell a seat at its current price.
+     *
+     * @return cost of seat in cents, or -1 if the seat is sold or held for another customer.
+     */
+    private long sellSeat(int row, int col, long holdId) {
+        Seat seat = seats[row][col];
+        if (!seat.isAvailable() && (holdId == 0 || seat.getHoldId() != holdId)) {
+            return -1;
+        }
+        refreshShowAdjustment();
+        long costOfSeat = getSeatPrice(row, col);
+        long heldUnder = seat.trySell(costOfSeat, holdId);
+        if (heldUnder == -1) {
+            return -1;
         }
-        show.setProfit(revenue);
+        recentSales.addLast(pricingEngine.getCurrentMillis());
+        recentSalesCount.incrementAndGet();
+        seatSold(row, col, costOfSeat, costOfSeat, heldUnder != 0);
         return costOfSeat;
     }
 
@@ -220,13 +643,24 @@ public class Theatre {
      * @return Message detailing status of desired seats (sold out or successfully purchased.)
      */
     public String sellSeats(String... seats) {
-        double totalCost = 0;
+        return sellSeats(0, seats);
+    }
+
+    /**
+     * Sell seats to customers, including the seats held for them. Seats held for other customers are not sold.
+     *
+     * @param holdId id of the hold of the customer, or 0 if they have none.
+     * @param seats  String array of desired seats
+     * @return Message detailing status of desired seats (sold out or successfully purchased.)
+     */
+    public String sellSeats(long holdId, String... seats) {
+        long totalCost = 0;
         ArrayList<String> seatsSold = new ArrayList<>();
         ArrayList<String> seatsNotSold = new ArrayList<>();
         ArrayList<String> seatsNotExist = new ArrayList<>();
         StringBuilder message = new StringBuilder();
         for (String seatNumber : seats) {
-            double costOfSeat = sellSeats(seatNumber);
+            long costOfSeat = sellSeat(seatNumber, holdId);
 
             if (costOfSeat > 0) {
                 totalCost += costOfSeat;
@@ -248,11 +682,11 @@ public class Theatre {
         } else if (seatsNotSold.isEmpty() && seatsNotExist.isEmpty()) { //all seats are valid
             message.append("You have successfully purchased the following seats: \n"
                     + seatsSold + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalCost));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalCost)));
         } else { //combination of all
             message.append("You have successfully purchased the following seats: \n"
                     + seatsSold + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalCost));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalCost)));
             if (!seatsNotSold.isEmpty()) {
                 message.append("The following seats are unavailable: \n"
                         + seatsNotSold + "\n");
@@ -265,6 +699,104 @@ public class Theatre {
         return message.toString();
     }
 
+    /**
+     * Hold seats for a customer who has not decided yet. Held seats are not offered to other customers
+     * and are released when they are sold or when the hold lapses.
+     *
+     * @param holdId      id of the hold.
+     * @param holdMinutes number of minutes the seats will be held for.
+     * @param seats       String array of desired seats.
+     * @return Message detailing status of desired seats.
+     */
+    public String holdSeats(long holdId, long holdMinutes, String... seats) {
+        ArrayList<String> seatsHeld = new ArrayList<>();
+        ArrayList<String> seatsNotAvailable = new ArrayList<>();
+        ArrayList<String> seatsNotExist = new ArrayList<>();
+        StringBuilder message = new StringBuilder();
+        for (String seatNumber : seats) {
+            int row = getRow(seatNumber.substring(0, 1));
+            int col = getCol(seatNumber.substring(1));
+            if (row == -1 || col == -1) {
+                seatsNotExist.add(seatNumber);
+            } else if (!this.seats[row][col].tryHold(holdId)) {
+                seatsNotAvailable.add(seatNumber);
+            } else {
+                int tier = this.seats[row][col].getSeatTier().ordinal();
+                seatsLeft.decrementAndGet(tier);
+                repriceTier(tier);
+                seatChanged(row, col);
+                seatsHeld.add(seatNumber);
+            }
+        }
+
+        if (seatsHeld.isEmpty()) {
+            if (!seatsNotAvailable.isEmpty()) {
+                message.append(String.format("☹ OOPS!!! All of the seats %s are unavailable.\n", seatsNotAvailable));
+            }
+            if (!seatsNotExist.isEmpty()) {
+                message.append(String.format("☹ OOPS!!! All of the seats %s do not exist.\n", seatsNotExist));
+            }
+            return message.toString();
+        }
+
+        message.append("You have successfully held the following seats: \n"
+                + seatsHeld + "\n"
+                + String.format("The seats will be held for %1$d minutes.\n", holdMinutes)
+                + String.format("The hold number is %1$d. Give it when selling the seats.\n", holdId));
+        if (!seatsNotAvailable.isEmpty()) {
+            message.append("The following seats are unavailable: \n"
+                    + seatsNotAvailable + "\n");
+        }
+        if (!seatsNotExist.isEmpty()) {
+            message.append("The following seats do not exist: \n"
+                    + seatsNotExist + "\n");
+        }
+        return message.toString();
+    }
+
+    /**
+     * Get the seats that are still held under the given hold.
+     *
+     * @param holdId id of the hold.
+     * @param seats  String array of the seats to check.
+     * @return the seats that are held under the hold.
+     */
+    public String[] getHeldSeats(long holdId, String... seats) {
+        ArrayList<String> seatsHeld = new ArrayList<>();
+        for (String seatNumber : seats) {
+            int row = getRow(seatNumber.substring(0, 1));
+            int col = getCol(seatNumber.substring(1));
+            if (row != -1 && col != -1 && this.seats[row][col].getHoldId() == holdId) {
+                seatsHeld.add(seatNumber);
+            }
+        }
+        return seatsHeld.toArray(new String[0]);
+    }
+
+    /**
+     * Release the seats of a hold that have not been sold.
+     *
+     * @param holdId id of the hold.
+     * @param seats  String array of the seats in the hold.
+     * @return number of seats released.
+     */
+    public int releaseHold(long holdId, String... seats) {
+        int released = 0;
+        for (String seatNumber : seats) {
+            int row = getRow(seatNumber.substring(0, 1));
+            int col = getCol(seatNumber.substring(1));
+            if (row == -1 || col == -1 || !this.seats[row][col].tryReleaseHold(holdId)) {
+                continue;
+            }
+            int tier = this.seats[row][col].getSeatTier().ordinal();
+            seatsLeft.incrementAndGet(tier);
+            repriceTier(tier);
+            seatChanged(row, col);
+            released++;
+        }
+        return released;
+    }
+
     /**
      * Reassigns the seat of a customer.
      *
@@ -296,24 +828,32 @@ public class Theatre {
             return message.toString();
         }
 
-        if (seats[newSeatRow][newSeatCol].isSold()) { // if the new seat has already been booked.
+        long costOfNewSeat = -1;
+        if (seats[newSeatRow][newSeatCol].isAvailable()) {
+            costOfNewSeat = sellSeat(newSeatRow, newSeatCol, 0);
+        }
+        if (costOfNewSeat == -1) { // if the new seat has already been booked or held.
             message.append(String.format("☹ OOPS!!! Seat %1$s is unavailable. Use the View Command to"
                     + " view the available seats.\n", newSeat));
             return message.toString();
         }
 
-        double costOfNewSeat = sellSeats(newSeat);
-        double costOfOldSeat = removeSeat(oldSeat);
+        long costOfOldSeat = unsellSeat(oldSeatRow, oldSeatCol, false);
+        if (costOfOldSeat == -1) { // if the old seat was removed by someone else in the meantime.
+            unsellSeat(newSeatRow, newSeatCol, false);
+            message.append(String.format("The seat %1$s is still available for booking.\n", oldSeat));
+            return message.toString();
+        }
 
         message.append(String.format("Your seat has been successfully changed from %1$s to %2$s.\n", oldSeat,
                 newSeat));
 
         if (costOfNewSeat > costOfOldSeat) {
-            double extraCost = costOfNewSeat - costOfOldSeat;
-            message.append(String.format("An extra cost of $%1$.2f is required.\n", extraCost));
+            long extraCost = costOfNewSeat - costOfOldSeat;
+            message.append(String.format("An extra cost of $%1$s is required.\n", Money.format(extraCost)));
         } else if (costOfOldSeat > costOfNewSeat) {
-            double returnCost = costOfOldSeat - costOfNewSeat;
-            message.append(String.format("$%1$.2f will be returned.\n", returnCost));
+            long returnCost = costOfOldSeat - costOfNewSeat;
+            message.append(String.format("$%1$s will be returned.\n", Money.format(returnCost)));
         }
         return message.toString();
     }
@@ -322,26 +862,37 @@ public class Theatre {
      * Removes a seat booking from the theatre.
      *
      * @param seatToRemove The seat to be removed.
-     * @return The cost of the seat that has been removed.
+     * @return The cost in cents of the seat that has been removed.
      */
-    public double removeSeat(String seatToRemove) {
+    public long removeSeat(String seatToRemove) {
         int row = getRow(seatToRemove.substring(0, 1));
         int col = getCol(seatToRemove.substring(1));
-        double seatPrice = 0;
+        long seatPrice = 0;
 
         if (row == -1 || col == -1) { //if seat number is invalid
             seatPrice = -1;
-        } else if (!seats[row][col].isSold()) { //if the seat is not sold yet
-            seatPrice = 0;
         } else {
-            double currRevenue = show.getProfit();
-            seatPrice = seats[row][col].getSeatPrice(seatBasePrice);
-            show.setProfit(currRevenue - seatPrice);
-            this.resetSeat(row, col);
+            seatPrice = Math.max(unsellSeat(row, col, false), 0); //0 if the seat is not sold yet
         }
         return seatPrice;
     }
 
+    /**
+     * Make a sold seat available again and take its price out of the revenue of the show.
+     *
+     * @param isRefund whether only half the price of the seat is refunded, in which case the other half is kept as revenue.
+     * @return amount in cents given back for the seat, or -1 if the seat is not sold.
+     */
+    private long unsellSeat(int row, int col, boolean isRefund) {
+        long pricePaid = seats[row][col].tryUnsell();
+        if (pricePaid == -1) {
+            return -1;
+        }
+        long amountReturned = isRefund ? pricePaid / 2 : pricePaid;
+        seatUnsold(row, col, pricePaid, -amountReturned);
+        return amountReturned;
+    }
+
     /**
      * Remove seats for customers. Used when customer wants to remove multiple seats.
      *
@@ -349,13 +900,13 @@ public class Theatre {
      * @return Message detailing status of the removal
      */
     public String removeSeat(String... seatsToRemove) {
-        double totalRefund = 0;
+        long totalRefund = 0;
         ArrayList<String> seatsRemoved = new ArrayList<>();
         ArrayList<String> seatsEmpty = new ArrayList<>();
         ArrayList<String> seatsNotExist = new ArrayList<>();
         StringBuilder message = new StringBuilder();
         for (String seatNumber : seatsToRemove) {
-            double costOfSeat = removeSeat(seatNumber);
+            long costOfSeat = removeSeat(seatNumber);
 
             if (costOfSeat > 0) {
                 totalRefund += costOfSeat;
@@ -377,11 +928,11 @@ public class Theatre {
         } else if (seatsEmpty.isEmpty() && seatsNotExist.isEmpty()) { //all seats are valid
             message.append("You have successfully removed the following seats: \n"
                     + seatsRemoved + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalRefund));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalRefund)));
         } else { //combination of all
             message.append("You have successfully removed the following seats: \n"
                     + seatsRemoved + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalRefund));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalRefund)));
             if (!seatsEmpty.isEmpty()) {
                 message.append("The following seats are not yet sold: \n"
                         + seatsEmpty + "\n");
@@ -398,22 +949,17 @@ public class Theatre {
      * Refunds a seat booking from the theatre.
      *
      * @param seatToRefund The seat to be refunded
-     * @return The amount of money refunded for the seat
+     * @return The amount of money in cents refunded for the seat
      */
-    public double refundSeat(String seatToRefund) {
+    public long refundSeat(String seatToRefund) {
         int row = getRow(seatToRefund.substring(0, 1));
         int col = getCol(seatToRefund.substring(1));
-        double seatPrice = 0;
+        long seatPrice = 0;
 
         if (row == -1 || col == -1) { //if seat number is invalid
             seatPrice = -1;
-        } else if (!seats[row][col].isSold()) { //if the seat is not sold yet
-            seatPrice = 0;
         } else {
-            double currRevenue = show.getProfit();
-            seatPrice = seats[row][col].getSeatPrice(seatBasePrice) * 0.5;
-            show.setProfit(currRevenue - seatPrice);
-            this.resetSeat(row, col);
+            seatPrice = Math.max(unsellSeat(row, col, true), 0); //0 if the seat is not sold yet
         }
         return seatPrice;
     }
@@ -425,13 +971,13 @@ public class Theatre {
      * @return Message detailing status of the refund
      */
     public String refundSeat(String... seatsToRefund) {
-        double totalRefund = 0;
+        long totalRefund = 0;
         ArrayList<String> seatsRefunded = new ArrayList<>();
         ArrayList<String> seatsEmpty = new ArrayList<>();
         ArrayList<String> seatsNotExist = new ArrayList<>();
         StringBuilder message = new StringBuilder();
         for (String seatNumber : seatsToRefund) {
-            double costOfSeat = refundSeat(seatNumber);
+            long costOfSeat = refundSeat(seatNumber);
 
             if (costOfSeat > 0) {
                 totalRefund += costOfSeat;
@@ -453,11 +999,11 @@ public class Theatre {
         } else if (seatsEmpty.isEmpty() && seatsNotExist.isEmpty()) { //all seats are valid
             message.append("You have successfully refunded the following seats: \n"
                     + seatsRefunded + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalRefund));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalRefund)));
         } else { //combination of all
             message.append("You have successfully refunded the following seats: \n"
                     + seatsRefunded + "\n"
-                    + String.format(MESSAGE_TICKET_COST, totalRefund));
+                    + String.format(MESSAGE_TICKET_COST, Money.format(totalRefund)));
             if (!seatsEmpty.isEmpty()) {
                 message.append("The following seats are not yet sold: \n"
                         + seatsEmpty + "\n");
@@ -470,6 +1016,94 @@ public class Theatre {
         return message.toString();
     }
 
+    /**
+     * Check if a seat exists in the theatre.
+     *
+     * @param seat seat number. E.g. "A1".
+     * @return true if the seat exists.
+     */
+    public boolean hasSeat(String seat) {
+        return seat.length() > 1 && getRow(seat.substring(0, 1)) != -1 && getCol(seat.substring(1)) != -1;
+    }
+
+    /**
+     * Check if a seat has been sold.
+     *
+     * @param seat seat number of an existing seat. E.g. "A1".
+     * @return true if the seat has been sold.
+     */
+    public boolean isSeatSold(String seat) {
+        return seats[getRow(seat.substring(0, 1))][getCol(seat.substring(1))].isSold();
+    }
+
+    /**
+     * Check if a seat is held for a customer.
+     *
+     * @param seat seat number of an existing seat. E.g. "A1".
+     * @return true if the seat is held.
+     */
+    public boolean isSeatHeld(String seat) {
+        return seats[getRow(seat.substring(0, 1))][getCol(seat.substring(1))].isHeld();
+    }
+
+    /**
+     * Reserve a seat for a seat transaction, so that no other seller can change it until the reservation ends.
+     *
+     * @param seat       seat number. E.g. "A1".
+     * @param mustBeSold whether the seat is expected to be sold.
+     * @return the state of the seat before the reservation, or -1 if the seat does not exist or is not as expected.
+     */
+    long reserveSeat(String seat, boolean mustBeSold) {
+        if (!hasSeat(seat)) {
+            return -1;
+        }
+        return seats[getRow(seat.substring(0, 1))][getCol(seat.substring(1))].reserve(mustBeSold);
+    }
+
+    /**
+     * Sell a reserved seat at its current price. The seat stays reserved.
+     *
+     * @param seat      seat number of a reserved seat.
+     * @param seatState the state the seat is to be sold from, which must be available.
+     * @return the state the seat is left in once the reservation ends.
+     */
+    long sellReservedSeat(String seat, long seatState) {
+        int row = getRow(seat.substring(0, 1));
+        int col = getCol(seat.substring(1));
+        refreshShowAdjustment();
+        long costOfSeat = getSeatPrice(row, col);
+        recentSales.addLast(pricingEngine.getCurrentMillis());
+        recentSalesCount.incrementAndGet();
+        seatSold(row, col, costOfSeat, costOfSeat, false);
+        return Seat.soldState(costOfSeat);
+    }
+
+    /**
+     * Remove the booking of a reserved seat. The seat stays reserved.
+     *
+     * @param seat      seat number of a reserved seat.
+     * @param seatState the state the seat is to be removed from, which must be sold.
+     * @return the state the seat is left in once the reservation ends.
+     */
+    long removeReservedSeat(String seat, long seatState) {
+        long pricePaid = Seat.getPricePaid(seatState);
+        seatUnsold(getRow(seat.substring(0, 1)), getCol(seat.substring(1)), pricePaid, -pricePaid);
+        return 0;
+    }
+
+    /**
+     * End the reservation of a seat.
+     *
+     * @param seat      seat number of a reserved seat.
+     * @param seatState the state to leave the seat in.
+     */
+    void endReservation(String seat, long seatState) {
+        int row = getRow(seat.substring(0, 1));
+        int col = getCol(seat.substring(1));
+        seats[row][col].endReservation(seatState);
+        seatChanged(row, col);
+    }
+
     private int getRow(String row) {
         switch (row.toUpperCase()) {
         case "A":
@@ -521,7 +1155,55 @@ public class Theatre {
         return show.hasSameName(checkName);
     }
 
+    /**
+     * Get the show in the format used by the save file.
+     * The tier pricing rule is only written when it differs from the default.
+     *
+     * @return String of format "SHOW_NAME | PROFIT | SEAT_BASE_PRICE" or "SHOW_NAME | PROFIT | SEAT_BASE_PRICE | TIER_PERCENTAGES".
+     */
     public String writeToFile() {
-        return String.format("%s | %f | %f\n", show.getShowName(), show.getProfit(), seatBasePrice);
+        return writeToFile(show.getShowName());
+    }
+
+    /**
+     * Get the show in the format used by the save file, with the show name replaced by its id
+     * in the show name dictionary.
+     *
+     * @return String of format "#SHOW_NAME_ID | PROFIT | SEAT_BASE_PRICE" or "#SHOW_NAME_ID | PROFIT | SEAT_BASE_PRICE | TIER_PERCENTAGES".
+     */
+    public String writeToFileById() {
+        return writeToFile("#" + show.getShowNameId());
+    }
+
+    private String writeToFile(String showNameField) {
+        StringBuilder entry = new StringBuilder(showNameField).append(" | ").append(Money.format(show.getProfit()))
+                .append(" | ").append(Money.format(seatBasePrice));
+        if (!pricing.equals(TierPricing.DEFAULT)) {
+            entry.append(" | ").append(pricing.writeToFile());
+        }
+        return entry.append("\n").toString();
+    }
+
+    /**
+     * Adjustment in percent for every tier of the show, with the day and the number of recent sales
+     * it was evaluated with.
+     */
+    private static final class ShowPricing {
+        private final LocalDate pricedOn;
+        private final int salesCount;
+        private final int adjustment;
+
+        private ShowPricing(LocalDate pricedOn, int salesCount, int adjustment) {
+            this.pricedOn = pricedOn;
+            this.salesCount = salesCount;
+            this.adjustment = adjustment;
+        }
+
+        /**
+         * Get the same adjustment, marked to be evaluated again on the next sale.
+         */
+        private ShowPricing stale() {
+            return new ShowPricing(null, salesCount, adjustment);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package optix.commons.model;
+
+import java.util.Arrays;
+
+/**
+ * Pricing rule for the seat tiers of a show. The price of each tier is
+ * a percentage of the seat base price.
+ */
+public class TierPricing {
+    public static final TierPricing DEFAULT = new TierPricing(100, 120, 150);
+
+    // percentage of the base price for each tier, indexed by tier ordinal.
+    private final int[] percentages;
+
+    /**
+     * Create a pricing rule.
+     *
+     * @param percentages percentage of the base price for tier 1, tier 2 and tier 3.
+     */
+    public TierPricing(int... percentages) {
+        if (percentages.length != SeatTier.count()) {
+            throw new IllegalArgumentException("Expected a percentage for each of the " + SeatTier.count() + " tiers");
+        }
+        for (int percentage : percentages) {
+            if (percentage < 0) {
+                throw new IllegalArgumentException("Tier percentage cannot be negative");
+            }
+        }
+        this.percentages = percentages.clone();
+    }
+
+    public int getPercentage(SeatTier tier) {
+        return percentages[tier.ordinal()];
+    }
+
+    /**
+     * Get the price of a seat in the tier, rounded to the nearest cent.
+     *
+     * @param tier      tier of the seat.
+     * @param basePrice base seat price of a show in cents.
+     * @return price of a seat in the tier in cents.
+     */
+    public long getPrice(SeatTier tier, long basePrice) {
+        return (basePrice * percentages[tier.ordinal()] + 50) / 100;
+    }
+
+    /**
+     * Get the price of a seat in every tier.
+     *
+     * @param basePrice base seat price of a show in cents.
+     * @return prices in cents indexed by tier ordinal.
+     */
+    public long[] getPrices(long basePrice) {
+        long[] prices = new long[percentages.length];
+        for (SeatTier tier : SeatTier.values()) {
+            prices[tier.ordinal()] = getPrice(tier, basePrice);
+        }
+        return prices;
+    }
+
+    /**
+     * Parse a pricing rule from the save file.
+     *
+     * @param pricing String of the tier percentages separated by spaces. E.g. "100 120 150".
+     * @return the pricing rule.
+     * @throws IllegalArgumentException if the String is not a valid pricing rule.
+     */
+    public static TierPricing parse(String pricing) {
+        String[] splitStr = pricing.trim().split(" +");
+        int[] percentages = new int[splitStr.length];
+        for (int i = 0; i < splitStr.length; i++) {
+            percentages[i] = Integer.parseInt(splitStr[i]);
+        }
+        return new TierPricing(percentages);
+    }
+
+    /**
+     * Get the pricing rule in the format used by the save file.
+     *
+     * @return String of the tier percentages separated by spaces.
+     */
+    public String writeToFile() {
+        StringBuilder pricing = new StringBuilder();
+        for (int i = 0; i < percentages.length; i++) {
+            if (i > 0) {
+                pricing.append(' ');
+            }
+            pricing.append(percentages[i]);
+        }
+        return pricing.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TierPricing && Arrays.equals(percentages, ((TierPricing) other).percentages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(percentages);
+    }
+}
@@ -5,6 +5,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
 import optix.commons.model.Theatre;
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
@@ -16,7 +17,7 @@ public class FinanceController extends AnchorPane {
 
     private final OptixDateFormatter formatter = new OptixDateFormatter();
 
-    private static final String MESSAGE_PROFIT = "$%1$.2f";
+    private static final String MESSAGE_PROFIT = "$%1$s";
 
     @FXML
     private Label displayDate;
@@ -45,7 +46,7 @@ public class FinanceController extends AnchorPane {
     }
 
     private String showRevenue() {
-        return String.format(MESSAGE_PROFIT, theatre.getProfit());
+        return String.format(MESSAGE_PROFIT, Money.format(theatre.getProfit()));
     }
 
     public static FinanceController displayFinance(Theatre theatre, LocalDate date) {
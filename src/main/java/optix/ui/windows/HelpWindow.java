@@ -12,7 +12,9 @@ import java.io.IOException;
  */
 public class HelpWindow extends VBox {
     private static final String ADD_MENU = "To add a new show:         "
-            + "\nadd SHOW_NAME | SEATS_BASE_PRICE | SHOW_DATE1 | SHOW_DATE2 | ...\n\n";
+            + "\nadd SHOW_NAME | SEATS_BASE_PRICE | SHOW_DATE1 | SHOW_DATE2 | ...\n\n"
+            + "To add a run of shows:     "
+            + "\nadd SHOW_NAME | SEATS_BASE_PRICE | every DAYS from START_DATE to END_DATE except DATE1 DATE2 ...\n\n";
 
     private static String DELETE_MENU = "To delete shows:           "
             + "\ndelete SHOW_NAME | SHOW_DATE1 | SHOW_DATE2 | ...\n\n";
@@ -21,7 +23,19 @@ public class HelpWindow extends VBox {
             + "\nview SHOW_NAME | SHOW_DATE\n\n";
 
     private static String SELL_MENU = "To sell seats for show:    "
-            + "\nsell SHOW_NAME | SHOW_DATE | SEAT1 SEAT2 SEAT3 ...\n\n";
+            + "\nsell SHOW_NAME | SHOW_DATE | SEAT1 SEAT2 SEAT3 ... | HOLD_NUMBER (optional)\n\n";
+
+    private static String SELL_BEST_MENU = "To sell the best seats next to each other: "
+            + "\nsell-best SHOW_NAME | SHOW_DATE | NUMBER_OF_SEATS | TIER (optional)\n\n";
+
+    private static String HOLD_MENU = "To hold seats for a customer:    "
+            + "\nhold SHOW_NAME | SHOW_DATE | SEAT1 SEAT2 SEAT3 ... | MINUTES (optional)\n\n";
+
+    private static String SELL_GROUP_MENU = "To sell either all or none of the seats: "
+            + "\nsell-group SHOW_NAME | SHOW_DATE | SEAT1 SEAT2 SEAT3 ...\n\n";
+
+    private static String EXCHANGE_MENU = "To exchange seats for other seats: "
+            + "\nexchange SHOW_NAME | SHOW_DATE | OLD_SEATS | NEW_SHOW_NAME | NEW_SHOW_DATE | NEW_SEATS\n\n";
 
     private static String REMOVE_MENU = "To remove seats from show: "
             + "\nremove-seat SHOW_NAME | SHOW_DATE | SEAT1 SEAT2 SEAT3 ...\n\n";
@@ -31,11 +45,18 @@ public class HelpWindow extends VBox {
 
     private static String LIST_MENU = "To list shows:              \nlist\n\n"
             + "To list specific show:     \nlist SHOW_NAME\n\n"
-            + "To list shows with date:   \nlist MONTH YEAR\n\n";
+            + "To list shows with date:   \nlist MONTH YEAR\n\n"
+            + "To find show by name:      \nfind SHOW_NAME\n\n";
 
     private static String RESCHEDULE_MENU = "To reschedule show:        "
             + "\nreschedule SHOW_NAME | OLD_DATE | NEW_DATE\n\n";
 
+    private static String CHANGEOVER_MENU = "To set days between productions: "
+            + "\nchangeover DAYS\n\n";
+
+    private static String SURCHARGES_MENU = "To turn price surcharges on or off: "
+            + "\nsurcharges on|off\n\n";
+
     private static String EDIT_MENU = "To edit show name:         "
             + "\nedit OLD_SHOW_NAME | SHOW_DATE | NEW_SHOW_NAME\n\n";
 
@@ -51,7 +72,11 @@ public class HelpWindow extends VBox {
     private static String PROFIT_MENU = "To view profits for a show:                   "
             + "\nview-profit SHOW_NAME | SHOW_DATE\n\n"
             + "To view monthly profits:                      "
-            + "\nview-monthly MONTH YEAR\n\n";
+            + "\nview-monthly MONTH YEAR\n\n"
+            + "To view profits over a period:                "
+            + "\nview-revenue START_DATE END_DATE\n\n"
+            + "To view profits by show and month:            "
+            + "\nview-report START_DATE END_DATE\n\n";
 
 
     @FXML
@@ -73,8 +98,10 @@ public class HelpWindow extends VBox {
             e.printStackTrace();
         }
 
-        showHelpLbl.setText(ADD_MENU + DELETE_MENU + LIST_MENU + RESCHEDULE_MENU + EDIT_MENU);
-        seatHelpLbl.setText(SELL_MENU + VIEW_MENU + REMOVE_MENU + REFUND_MENU);
+        showHelpLbl.setText(ADD_MENU + DELETE_MENU + LIST_MENU + RESCHEDULE_MENU + EDIT_MENU + CHANGEOVER_MENU
+                + SURCHARGES_MENU);
+        seatHelpLbl.setText(SELL_MENU + SELL_BEST_MENU + SELL_GROUP_MENU + HOLD_MENU + EXCHANGE_MENU
+                + VIEW_MENU + REMOVE_MENU + REFUND_MENU);
         financeHelpLbl.setText(PROFIT_MENU);
         aliasHelpLbl.setText(ALIAS_MENU);
     }
@@ -10,19 +10,26 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 import optix.Optix;
-import optix.commons.model.ShowMap;
+import optix.commons.model.ShowSnapshot;
 import optix.commons.model.Theatre;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 public class MainWindow extends AnchorPane {
+    private static final String MESSAGE_WORKING = "Working on it...\n";
+    // commands that take longer than this show that they are still running.
+    private static final Duration PROGRESS_DELAY = new Duration(300);
+
     @FXML
     private JFXButton showButton;
     @FXML
@@ -48,6 +55,9 @@ public class MainWindow extends AnchorPane {
     @FXML
     private ImageView icon;
 
+    // seat map on display, which keeps itself up to date until the display is cleared.
+    private SeatsDisplayController seatsDisplay;
+
     private Image optixImage = new Image(this.getClass().getResourceAsStream("/img/optixImage.png"));
     private Image userImage = new Image(this.getClass().getResourceAsStream("/img/userImage.png"));
     private Image optixIcon = new Image(this.getClass().getResourceAsStream("/img/optixIcon.png"));
@@ -73,44 +83,99 @@ public class MainWindow extends AnchorPane {
         chatBox.getChildren().add(DialogBox.getOptixDialog(greetings, optixImage));
 
         icon.setImage(optixIcon);
-        displayShows();
+        displayShows(this.optix.getShowsGui());
     }
 
     @FXML
     public void initialize() {
         scrollPane.vvalueProperty().bind(chatBox.heightProperty());
+        userInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                autocompleteShowName();
+                event.consume();
+            }
+        });
     }
 
+    /**
+     * Completes the show name typed after the command word.
+     * A unique match is filled in fully, otherwise the input is extended to the longest common prefix.
+     */
+    private void autocompleteShowName() {
+        String[] splitStr = userInput.getText().split(" ", 2);
+        if (splitStr.length != 2 || splitStr[1].contains("|")) {
+            return;
+        }
+
+        List<String> showNames = optix.completeShowName(splitStr[1].trim());
+        if (showNames.isEmpty()) {
+            return;
+        }
+
+        String completion = showNames.get(0);
+        if (showNames.size() == 1) {
+            completion += "|";
+        } else {
+            for (String showName : showNames) {
+                int i = 0;
+                while (i < completion.length() && i < showName.length()
+                        && Character.toLowerCase(completion.charAt(i)) == Character.toLowerCase(showName.charAt(i))) {
+                    i++;
+                }
+                completion = completion.substring(0, i);
+            }
+        }
+        userInput.setText(splitStr[0] + " " + completion);
+        userInput.positionCaret(userInput.getText().length());
+    }
+
+    /**
+     * Runs the command in the background so the window stays responsive, and shows the result once it is done.
+     */
     @FXML
     private void handleResponse() {
         String fullCommand = userInput.getText();
-        String taskType = optix.runGui(fullCommand);
-        String response = optix.getResponse();
+        userInput.clear();
+        chatBox.getChildren().add(DialogBox.getUserDialog(fullCommand, userImage));
 
-        chatBox.getChildren().addAll(
-                DialogBox.getUserDialog(fullCommand, userImage),
-                DialogBox.getOptixDialog(response, optixImage)
-        );
+        DialogBox progress = DialogBox.getOptixDialog(MESSAGE_WORKING, optixImage);
+        PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(event -> chatBox.getChildren().add(progress));
+        progressDelay.play();
 
-        switch (taskType) {
+        optix.runGuiAsync(fullCommand).thenAccept(result -> Platform.runLater(() -> {
+            progressDelay.stop();
+            chatBox.getChildren().remove(progress);
+            displayResult(fullCommand, result);
+        }));
+    }
+
+    /**
+     * Shows the response to a command and displays the shows as they were when the command finished,
+     * so later commands still queued never change what is displayed for this one.
+     */
+    private void displayResult(String fullCommand, Optix.Result result) {
+        chatBox.getChildren().add(DialogBox.getOptixDialog(result.getMessage(), optixImage));
+
+        switch (result.getTaskType()) {
         case "bye":
             shutDown();
             break;
         case "show":
             tabName.setText("Show");
-            displayShows();
+            displayShows(result.getShowsGui());
             break;
         case "seat":
             tabName.setText("Seat");
-            displaySeats(fullCommand);
+            displaySeats(fullCommand, result.getShowsGui());
             break;
         case "archive":
             tabName.setText("Archive");
-            displayFinance();
+            displayFinance(result.getShowsGui());
             break;
         case "finance":
             tabName.setText("Finance");
-            displayFinance();
+            displayFinance(result.getShowsGui());
             break;
         case "help":
             displayHelp();
@@ -118,40 +183,44 @@ public class MainWindow extends AnchorPane {
         default:
             break;
         }
-        userInput.clear();
     }
 
     private void shutDown() {
+        optix.shutdown();
         PauseTransition delay = new PauseTransition(new Duration(500));
         delay.setOnFinished(event -> Platform.exit());
         delay.play();
     }
 
-    private void displayShows() {
+    private void displayShows(ShowSnapshot showsGui) {
         clearDisplay();
-        for (Map.Entry<LocalDate, Theatre> entry : optix.getShowsGui().entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : showsGui.entrySet()) {
             display.getChildren().add(ShowController.displayShow(entry.getValue(), entry.getKey()));
         }
     }
 
-    private void displayFinance() {
+    private void displayFinance(ShowSnapshot showsGui) {
         clearDisplay();
-        for (Map.Entry<LocalDate, Theatre> entry : optix.getShowsGui().entrySet()) {
+        for (Map.Entry<LocalDate, Theatre> entry : showsGui.entrySet()) {
             display.getChildren().add(FinanceController.displayFinance(entry.getValue(), entry.getKey()));
         }
     }
 
-    private void displaySeats(String fullCommand) {
+    private void displaySeats(String fullCommand, ShowSnapshot showsGui) {
         String[] splitStr = fullCommand.split("\\|");
-        if (!optix.getShowsGui().isEmpty()) {
+        LocalDate localDate = new OptixDateFormatter().toLocalDate(splitStr[1].trim());
+        Theatre theatre = showsGui.get(localDate);
+        if (theatre == null) { // the show has been deleted since the command ran.
             clearDisplay();
-
-            LocalDate localDate = new OptixDateFormatter().toLocalDate(splitStr[1].trim());
-            ShowMap shows = optix.getShows();
-            Theatre theatre = shows.get(localDate);
-
-            display.getChildren().add(SeatsDisplayController.displaySeats(theatre, localDate));
+            return;
         }
+        if (seatsDisplay != null && seatsDisplay.isShowing(theatre)) {
+            return; // the seat map on display has already redrawn the seats that changed.
+        }
+        clearDisplay();
+
+        seatsDisplay = SeatsDisplayController.displaySeats(theatre, localDate);
+        display.getChildren().add(seatsDisplay);
     }
 
     @FXML
@@ -163,26 +232,33 @@ public class MainWindow extends AnchorPane {
 
     @FXML
     private void clickShow() {
-        optix.resetShows();
-        tabName.setText("Show");
-        displayShows();
+        optix.resetShows().thenAccept(shows -> Platform.runLater(() -> {
+            tabName.setText("Show");
+            displayShows(shows);
+        }));
     }
 
     @FXML
     private void clickArchive() {
-        optix.resetArchive();
-        tabName.setText("Archive");
-        displayFinance();
+        optix.resetArchive().thenAccept(archive -> Platform.runLater(() -> {
+            tabName.setText("Archive");
+            displayFinance(archive);
+        }));
     }
 
     @FXML
     private void clickFinance() {
-        optix.resetShows();
-        tabName.setText("Finance");
-        displayFinance();
+        optix.resetShows().thenAccept(shows -> Platform.runLater(() -> {
+            tabName.setText("Finance");
+            displayFinance(shows);
+        }));
     }
 
     private void clearDisplay() {
+        if (seatsDisplay != null) {
+            seatsDisplay.close();
+            seatsDisplay = null;
+        }
         display.getChildren().removeAll(display.getChildren());
     }
 }
@@ -8,6 +8,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import optix.commons.model.Seat;
+import optix.commons.model.SeatDelta;
 
 import java.io.IOException;
 
@@ -39,6 +40,8 @@ public class SeatController extends StackPane {
 
         if (seat.isSold()) {
             setBooked();
+        } else if (seat.isHeld()) {
+            setHeld();
         }
     }
 
@@ -46,6 +49,25 @@ public class SeatController extends StackPane {
         return new SeatController(row, col, seat);
     }
 
+    /**
+     * Redraw the seat after it has changed.
+     *
+     * @param status what the seat can now be used for.
+     */
+    public void update(SeatDelta.Status status) {
+        switch (status) {
+        case SOLD:
+            setBooked();
+            break;
+        case HELD:
+            setHeld();
+            break;
+        default:
+            setAvailable();
+            break;
+        }
+    }
+
     private String getRow(int row) {
         switch (row) {
         case 0:
@@ -73,6 +95,14 @@ public class SeatController extends StackPane {
         changeColor(Color.web("#CB4335"));
     }
 
+    private void setAvailable() {
+        changeColor(Color.web("#5DADE2"));
+    }
+
+    private void setHeld() {
+        changeColor(Color.web("#F5B041"));
+    }
+
     private void changeColor(Color color) {
         rectangle.setFill(color);
         circle.setFill(color);
@@ -1,22 +1,34 @@
 package optix.ui.windows;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import optix.commons.model.Seat;
+import optix.commons.model.SeatDelta;
 import optix.commons.model.Theatre;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.concurrent.Flow;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-public class SeatsDisplayController extends VBox {
+/**
+ * Seat map of a show. Once drawn, the seat map subscribes to the changes to the seats of the show
+ * and redraws only the seats that changed, one at a time, until it is closed.
+ */
+public class SeatsDisplayController extends VBox implements Flow.Subscriber<SeatDelta> {
     private Theatre theatre;
     private LocalDate localDate;
+    private SeatController[][] seatControllers;
+    private Flow.Subscription subscription;
 
     private final OptixDateFormatter formatter = new OptixDateFormatter();
+    private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
 
     @FXML
     private HBox rowA;
@@ -49,6 +61,8 @@ public class SeatsDisplayController extends VBox {
         }
         displayShowName.setText(theatre.getShowName());
         displayDate.setText(formatter.toStringDate(localDate));
+        // subscribe before reading the seats, so that no change is missed. Deltas are only drawn once this returns.
+        theatre.getSeatChanges().subscribe(this);
         fillSeats();
     }
 
@@ -56,28 +70,69 @@ public class SeatsDisplayController extends VBox {
         return new SeatsDisplayController(theatre, localDate);
     }
 
+    public boolean isShowing(Theatre theatre) {
+        return this.theatre == theatre;
+    }
+
+    /**
+     * Stop redrawing the seats when they change.
+     */
+    public void close() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(SeatDelta delta) {
+        Platform.runLater(() -> {
+            seatControllers[delta.getRow()][delta.getCol()].update(delta.getStatus());
+            // ask for the next change only once this one is drawn, so changes never pile up on the GUI thread.
+            subscription.request(1);
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        OPTIXLOGGER.log(Level.WARNING, "Seat map of " + formatter.toStringDate(localDate) + " stopped updating",
+                throwable);
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
     private void fillSeats() {
         Seat[][] seats = theatre.getSeats();
+        seatControllers = new SeatController[seats.length][];
         for (int i = 0; i < seats.length; i++) {
+            seatControllers[i] = new SeatController[seats[i].length];
             for (int j = 0; j < seats[i].length; j++) {
+                seatControllers[i][j] = SeatController.getSeat(i, j, seats[i][j]);
                 switch (i) {
                 case 0:
-                    rowA.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowA.getChildren().add(seatControllers[i][j]);
                     break;
                 case 1:
-                    rowB.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowB.getChildren().add(seatControllers[i][j]);
                     break;
                 case 2:
-                    rowC.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowC.getChildren().add(seatControllers[i][j]);
                     break;
                 case 3:
-                    rowD.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowD.getChildren().add(seatControllers[i][j]);
                     break;
                 case 4:
-                    rowE.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowE.getChildren().add(seatControllers[i][j]);
                     break;
                 case 5:
-                    rowF.getChildren().add(SeatController.getSeat(i, j, seats[i][j]));
+                    rowF.getChildren().add(seatControllers[i][j]);
                     break;
                 default:
                     System.out.println("error");
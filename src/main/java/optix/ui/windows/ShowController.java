@@ -4,7 +4,9 @@ import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
+import optix.commons.model.SeatTier;
 import optix.commons.model.Theatre;
+import optix.util.Money;
 import optix.util.OptixDateFormatter;
 
 import java.io.IOException;
@@ -16,7 +18,7 @@ public class ShowController extends AnchorPane {
 
     private final OptixDateFormatter formatter = new OptixDateFormatter();
 
-    private static final String MESSAGE_SEATS_AVAILABILITY = "%1$s (Price: $%2$.2f)";
+    private static final String MESSAGE_SEATS_AVAILABILITY = "%1$s (Price: $%2$s)";
 
     @FXML
     private Label displayDate;
@@ -44,13 +46,13 @@ public class ShowController extends AnchorPane {
 
         displayShowName.setText(theatre.getShowName());
         displayDate.setText(formatter.toStringDate(date));
-        displayTier1Seats.setText(seatsAvailability(theatre.getTierOneSeats(), theatre.getSeatBasePrice()));
-        displayTier2Seats.setText(seatsAvailability(theatre.getTierTwoSeats(), theatre.getSeatBasePrice() * 1.2));
-        displayTier3Seats.setText(seatsAvailability(theatre.getTierThreeSeats(), theatre.getSeatBasePrice() * 1.5));
+        displayTier1Seats.setText(seatsAvailability(theatre.getTierOneSeats(), theatre.getTierPrice(SeatTier.ONE)));
+        displayTier2Seats.setText(seatsAvailability(theatre.getTierTwoSeats(), theatre.getTierPrice(SeatTier.TWO)));
+        displayTier3Seats.setText(seatsAvailability(theatre.getTierThreeSeats(), theatre.getTierPrice(SeatTier.THREE)));
     }
 
-    private String seatsAvailability(String seatsLeft, double seatPrice) {
-        return String.format(MESSAGE_SEATS_AVAILABILITY, seatsLeft, seatPrice);
+    private String seatsAvailability(String seatsLeft, long seatPrice) {
+        return String.format(MESSAGE_SEATS_AVAILABILITY, seatsLeft, Money.format(seatPrice));
     }
 
     public static ShowController displayShow(Theatre theatre, LocalDate date) {
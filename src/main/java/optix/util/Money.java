@@ -0,0 +1,46 @@
+package optix.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts amounts of money between cents and their text form.
+ * Money is held as a whole number of cents in a long so that sums are exact.
+ */
+public class Money {
+
+    /**
+     * Parse an amount of money in dollars.
+     *
+     * @param amount String of the amount in dollars. E.g. "20", "20.5" or "2000.000000".
+     * @return the amount in cents, rounded to the nearest cent.
+     * @throws NumberFormatException if the String is not a number or the amount is too large.
+     */
+    public static long parse(String amount) {
+        try {
+            return new BigDecimal(amount.trim()).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount is too large: " + amount);
+        }
+    }
+
+    /**
+     * Format an amount of money in dollars with two decimal places.
+     *
+     * @param cents The amount in cents.
+     * @return String of the amount in dollars. E.g. "20.50".
+     */
+    public static String format(long cents) {
+        StringBuilder amount = new StringBuilder();
+        if (cents < 0) {
+            amount.append('-');
+        }
+        long absolute = Math.abs(cents);
+        long remainder = absolute % 100;
+        amount.append(absolute / 100).append('.');
+        if (remainder < 10) {
+            amount.append('0');
+        }
+        return amount.append(remainder).toString();
+    }
+}
@@ -5,22 +5,31 @@ import optix.commands.Command;
 import optix.commands.TabCommand;
 import optix.commands.finance.ViewMonthlyCommand;
 import optix.commands.finance.ViewProfitCommand;
+import optix.commands.finance.ViewReportCommand;
+import optix.commands.finance.ViewRevenueCommand;
 import optix.commands.parser.AddAliasCommand;
 import optix.commands.parser.ListAliasCommand;
 import optix.commands.parser.RemoveAliasCommand;
 import optix.commands.parser.ResetAliasCommand;
+import optix.commands.seats.ExchangeSeatCommand;
+import optix.commands.seats.HoldSeatCommand;
 import optix.commands.seats.ReassignSeatCommand;
 import optix.commands.seats.RefundSeatCommand;
 import optix.commands.seats.RemoveSeatCommand;
+import optix.commands.seats.SellBestSeatCommand;
+import optix.commands.seats.SellGroupSeatCommand;
 import optix.commands.seats.SellSeatCommand;
 import optix.commands.seats.ViewSeatsCommand;
 import optix.commands.shows.AddCommand;
+import optix.commands.shows.ChangeoverCommand;
 import optix.commands.shows.DeleteCommand;
 import optix.commands.shows.EditCommand;
+import optix.commands.shows.FindCommand;
 import optix.commands.shows.ListCommand;
 import optix.commands.shows.ListDateCommand;
 import optix.commands.shows.ListShowCommand;
 import optix.commands.shows.RescheduleCommand;
+import optix.commands.shows.SurchargesCommand;
 import optix.exceptions.OptixException;
 import optix.exceptions.OptixInvalidCommandException;
 
@@ -30,8 +39,8 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -42,14 +51,16 @@ import java.util.logging.Logger;
  * Parse input arguments and create a new Command Object.
  */
 public class Parser {
-    public static HashMap<String, String> commandAliasMap = new HashMap<>();
+    // shared by every Parser, which may be parsing on different threads.
+    public static final Map<String, String> commandAliasMap = new ConcurrentHashMap<>();
     private File preferenceFilePath; // the directory where the file is stored
     private File preferenceFile; // the path to the file itself
     // array of all possible command values
     private static String[] commandList = {"bye", "list", "help", "edit", "sell", "view",
         "reschedule", "add", "delete", "reassign-seat", "show", "archive", "finance",
         "view-profit", "view-monthly", "add-alias", "remove-alias", "reset-alias", "list-alias",
-        "refund-seat", "remove-seat"};
+        "refund-seat", "remove-seat", "find", "view-revenue", "view-report", "sell-best", "hold",
+        "sell-group", "exchange", "changeover", "surcharges"};
     private static final Logger OPTIXLOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
 
     /**
@@ -114,10 +125,22 @@ public class Parser {
                 return new EditCommand(splitStr[1]);
             case "sell":
                 return new SellSeatCommand(splitStr[1]);
+            case "sell-best":
+                return new SellBestSeatCommand(splitStr[1]);
+            case "hold":
+                return new HoldSeatCommand(splitStr[1]);
+            case "sell-group":
+                return new SellGroupSeatCommand(splitStr[1]);
+            case "exchange":
+                return new ExchangeSeatCommand(splitStr[1]);
             case "view":
                 return new ViewSeatsCommand(splitStr[1]);
             case "reschedule":
                 return new RescheduleCommand(splitStr[1]);
+            case "changeover": // e.g. changeover 2
+                return new ChangeoverCommand(splitStr[1]);
+            case "surcharges": // e.g. surcharges on
+                return new SurchargesCommand(splitStr[1]);
             case "list":
                 return parseList(splitStr[1]);
             case "bye":
@@ -130,6 +153,10 @@ public class Parser {
                 return new ViewProfitCommand(splitStr[1]);
             case "view-monthly": //e.g. view-monthly May 2020
                 return new ViewMonthlyCommand(splitStr[1]);
+            case "view-revenue": //e.g. view-revenue 1/5/2020 31/5/2020
+                return new ViewRevenueCommand(splitStr[1]);
+            case "view-report": //e.g. view-report 1/1/2018 31/12/2020
+                return new ViewReportCommand(splitStr[1]);
             case "add-alias":
                 return new AddAliasCommand(splitStr[1], this.preferenceFilePath);
             case "remove-alias":
@@ -140,6 +167,8 @@ public class Parser {
                 return new RemoveSeatCommand(splitStr[1]);
             case "refund-seat":
                 return new RefundSeatCommand(splitStr[1]);
+            case "find": // e.g. find lion kng
+                return new FindCommand(splitStr[1]);
             default:
                 OPTIXLOGGER.log(Level.WARNING, "Error with command: " + commandName);
                 throw new OptixInvalidCommandException();
@@ -166,9 +195,8 @@ public class Parser {
         OPTIXLOGGER.log(Level.INFO, "adding new alias");
         if (!newAlias.contains("|") // pipe symbol not in alias
                 && Arrays.asList(commandList).contains(command) // command exists
-                && !commandAliasMap.containsKey(newAlias) // new alias is not already in use
-                && !Arrays.asList(commandList).contains(newAlias)) { // new alias is not the name of a command
-            commandAliasMap.put(newAlias, command);
+                && !Arrays.asList(commandList).contains(newAlias) // new alias is not the name of a command
+                && commandAliasMap.putIfAbsent(newAlias, command) == null) { // new alias is not already in use
             OPTIXLOGGER.log(Level.INFO, "add alias successful");
         } else {
             OPTIXLOGGER.log(Level.INFO, "error adding alias.");
@@ -0,0 +1,179 @@
+package optix.util;
+
+import optix.exceptions.OptixException;
+import optix.exceptions.OptixInvalidDateException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A rule for a run of shows, e.g. "every tue-sun from 1/5/2030 to 15/6/2030 except 20/5/2030".
+ * The dates of the run are worked out one at a time as they are iterated over, so a rule is never expanded into a list.
+ */
+public class ShowRecurrence implements Iterable<LocalDate> {
+    private static final String KEYWORD_EVERY = "every";
+    private static final String KEYWORD_FROM = "from";
+    private static final String KEYWORD_TO = "to";
+    private static final String KEYWORD_EXCEPT = "except";
+
+    private static final String MESSAGE_INVALID_RULE = "☹ OOPS!!! That is an invalid recurrence.\n"
+            + "Try: every tue-sun from 1/5/2030 to 15/6/2030 except 20/5/2030\n";
+
+    private static final String MESSAGE_INVALID_RANGE = "☹ OOPS!!! The start date cannot be after the end date.\n";
+
+    private final EnumSet<DayOfWeek> daysOfWeek;
+    private final LocalDate start;
+    private final LocalDate end;
+    private final Set<LocalDate> exceptDates;
+
+    private ShowRecurrence(EnumSet<DayOfWeek> daysOfWeek, LocalDate start, LocalDate end, Set<LocalDate> exceptDates) {
+        this.daysOfWeek = daysOfWeek;
+        this.start = start;
+        this.end = end;
+        this.exceptDates = exceptDates;
+    }
+
+    /**
+     * Checks if the dates given to a command are a recurrence rule instead of a list of dates.
+     *
+     * @param dates String of the dates.
+     * @return {@code true} if the String starts with "every"
+     * {@code false} otherwise
+     */
+    public static boolean isRecurrence(String dates) {
+        return dates.trim().toLowerCase().startsWith(KEYWORD_EVERY + " ");
+    }
+
+    /**
+     * Parse a recurrence rule.
+     *
+     * @param rule String of format "every DAYS from START_DATE to END_DATE" or
+     *             "every DAYS from START_DATE to END_DATE except DATE_1 DATE_2 etc.".
+     *             DAYS is "day" or a list of days and ranges of days separated by commas, e.g. "mon,wed-fri".
+     * @return the recurrence.
+     * @throws OptixException if the rule is not in the right format or has an invalid date.
+     */
+    public static ShowRecurrence parse(String rule) throws OptixException {
+        String[] words = rule.trim().toLowerCase().split(" +");
+        if (words.length < 6 || !words[0].equals(KEYWORD_EVERY) || !words[2].equals(KEYWORD_FROM)
+                || !words[4].equals(KEYWORD_TO) || (words.length > 6 && !words[6].equals(KEYWORD_EXCEPT))
+                || words.length == 7) {
+            throw new OptixException(MESSAGE_INVALID_RULE);
+        }
+
+        EnumSet<DayOfWeek> daysOfWeek = parseDaysOfWeek(words[1]);
+        LocalDate start = parseDate(words[3]);
+        LocalDate end = parseDate(words[5]);
+        if (start.isAfter(end)) {
+            throw new OptixException(MESSAGE_INVALID_RANGE);
+        }
+
+        Set<LocalDate> exceptDates = new HashSet<>();
+        for (int i = 7; i < words.length; i++) {
+            exceptDates.add(parseDate(words[i]));
+        }
+        return new ShowRecurrence(daysOfWeek, start, end, exceptDates);
+    }
+
+    private static EnumSet<DayOfWeek> parseDaysOfWeek(String days) throws OptixException {
+        if (days.equals("day")) {
+            return EnumSet.allOf(DayOfWeek.class);
+        }
+        EnumSet<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : days.split(",")) {
+            String[] range = part.split("-");
+            if (range.length == 1) {
+                daysOfWeek.add(parseDayOfWeek(range[0]));
+            } else if (range.length == 2) {
+                // ranges may wrap around the end of the week, e.g. "fri-mon".
+                DayOfWeek last = parseDayOfWeek(range[1]);
+                DayOfWeek day = parseDayOfWeek(range[0]);
+                daysOfWeek.add(day);
+                while (day != last) {
+                    day = day.plus(1);
+                    daysOfWeek.add(day);
+                }
+            } else {
+                throw new OptixException(MESSAGE_INVALID_RULE);
+            }
+        }
+        return daysOfWeek;
+    }
+
+    private static DayOfWeek parseDayOfWeek(String day) throws OptixException {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            String name = dayOfWeek.name().toLowerCase();
+            if (day.length() >= 3 && name.startsWith(day)) {
+                return dayOfWeek;
+            }
+        }
+        throw new OptixException(MESSAGE_INVALID_RULE);
+    }
+
+    private static LocalDate parseDate(String date) throws OptixException {
+        OptixDateFormatter formatter = new OptixDateFormatter();
+        try {
+            if (!formatter.isValidDate(date)) {
+                throw new OptixInvalidDateException();
+            }
+            return formatter.toLocalDate(date);
+        } catch (NumberFormatException e) {
+            throw new OptixInvalidDateException();
+        }
+    }
+
+    /**
+     * Checks if there is a show on the date under this rule.
+     *
+     * @param date The date in query.
+     * @return {@code true} if the date is in the run, on one of the days of the week and not excepted
+     * {@code false} otherwise
+     */
+    public boolean includes(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end) && daysOfWeek.contains(date.getDayOfWeek())
+                && !exceptDates.contains(date);
+    }
+
+    /**
+     * Get the dates of the shows under this rule in calendar order.
+     */
+    @Override
+    public Iterator<LocalDate> iterator() {
+        return new Iterator<>() {
+            private LocalDate next = findNext(start);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LocalDate current = next;
+                next = findNext(current.plusDays(1));
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Get the first date of a show on or after the given date, or null if the run has ended.
+     */
+    private LocalDate findNext(LocalDate date) {
+        while (!date.isAfter(end)) {
+            if (includes(date)) {
+                return date;
+            }
+            date = date.plusDays(1);
+        }
+        return null;
+    }
+}
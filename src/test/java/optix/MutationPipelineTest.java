@@ -0,0 +1,137 @@
+package optix;
+
+import optix.commands.Command;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutationPipelineTest {
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testMutationPipeline");
+    private MutationPipeline pipeline;
+
+    @BeforeEach
+    void init() {
+        Storage storage = new Storage(filePath);
+        // a small buffer, so that the producers have to wait for the writer to make room.
+        pipeline = new MutationPipeline(new Model(storage), storage, 8);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pipeline.close();
+    }
+
+    @Test
+    void testCommandsOfEachProducerAreAppliedInOrder() throws Exception {
+        int producers = 4;
+        int commandsEach = 500;
+        List<List<Integer>> applied = new ArrayList<>();
+        Set<Thread> writers = ConcurrentHashMap.newKeySet();
+        List<List<CompletableFuture<Optix.Result>>> results = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            List<Integer> producerApplied = new ArrayList<>();
+            applied.add(producerApplied);
+            List<CompletableFuture<Optix.Result>> producerResults = new ArrayList<>();
+            results.add(producerResults);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < commandsEach; i++) {
+                    int index = i;
+                    producerResults.add(pipeline.submit(new RecordingCommand(() -> {
+                        writers.add(Thread.currentThread());
+                        producerApplied.add(index);
+                    }), new Ui()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (List<CompletableFuture<Optix.Result>> producerResults : results) {
+            for (CompletableFuture<Optix.Result> result : producerResults) {
+                assertEquals("recorded", result.join().getTaskType());
+            }
+        }
+
+        assertEquals(1, writers.size());
+        for (List<Integer> producerApplied : applied) {
+            assertEquals(commandsEach, producerApplied.size());
+            for (int i = 0; i < commandsEach; i++) {
+                assertEquals(Integer.valueOf(i), producerApplied.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testFailedCommand() {
+        CompletableFuture<Optix.Result> failed = pipeline.submit(new RecordingCommand(() -> {
+            throw new IllegalStateException();
+        }), new Ui());
+        CompletableFuture<Optix.Result> next = pipeline.submit(new RecordingCommand(() -> { }), new Ui());
+
+        assertTrue(failed.handle((result, e) -> e != null).join());
+        assertEquals("recorded", next.join().getTaskType());
+    }
+
+    @Test
+    void testErrorDoesNotStopWriter() {
+        CompletableFuture<Optix.Result> failed = pipeline.submit(new RecordingCommand(() -> {
+            throw new AssertionError();
+        }), new Ui());
+        CompletableFuture<Optix.Result> next = pipeline.submit(new RecordingCommand(() -> { }), new Ui());
+
+        assertTrue(failed.handle((result, e) -> e instanceof AssertionError).join());
+        assertEquals("recorded", next.join().getTaskType());
+    }
+
+    @Test
+    void testClosedPipeline() {
+        pipeline.close();
+        assertTrue(pipeline.submit(new RecordingCommand(() -> { }), new Ui()).isCompletedExceptionally());
+    }
+
+    private static class RecordingCommand extends Command {
+        private final Runnable action;
+
+        private RecordingCommand(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public String execute(Model model, Ui ui, Storage storage) {
+            action.run();
+            ui.setMessage("done");
+            return "recorded";
+        }
+
+        @Override
+        public String[] parseDetails(String details) {
+            return new String[0];
+        }
+    }
+}
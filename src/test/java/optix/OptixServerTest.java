@@ -0,0 +1,121 @@
+package optix;
+
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.util.Parser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OptixServerTest {
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+    private OptixServer server;
+
+    @BeforeEach
+    void init() throws Exception {
+        Storage storage = new Storage(filePath);
+        server = new OptixServer(new Model(storage), storage, new Parser(filePath),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void testFrame() {
+        assertEquals("one\n..two\n.\n", OptixServer.frame("one\n.two\n"));
+    }
+
+    @Test
+    void testPipelinedCommands() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getAddress().getPort())) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+            out.write(("add Server Show|20|15/4/2033\n"
+                    + "sell Server Show|15/4/2033|A1\n"
+                    + "sell Server Show|15/4/2033|A1\n"
+                    + "delete Server Show|15/4/2033\n"
+                    + "bye\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            readResponse(in);
+            assertEquals("You have successfully purchased the following seats: \n"
+                    + "[A1]\n"
+                    + "The total cost of the tickets are $30.00\n", readResponse(in));
+            assertEquals("☹ OOPS!!! All of the seats [A1] are unavailable.\n", readResponse(in));
+            readResponse(in);
+            assertEquals("Bye. Hope to see you again soon!\n", readResponse(in));
+            assertNull(in.readLine()); // the server hangs up after bye.
+        }
+    }
+
+    @Test
+    void testConcurrentClients() throws Exception {
+        int port = server.getAddress().getPort();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            socket.getOutputStream().write("add Server Show|20|16/4/2033\n".getBytes(StandardCharsets.UTF_8));
+            readResponse(in);
+        }
+
+        // every client tries to buy the same seat, only one of them gets it.
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(clients.submit(() -> {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    socket.getOutputStream().write("sell Server Show|16/4/2033|B5\n".getBytes(StandardCharsets.UTF_8));
+                    return readResponse(in);
+                }
+            }));
+        }
+        int sold = 0;
+        for (Future<String> response : responses) {
+            if (response.get().startsWith("You have successfully purchased")) {
+                sold++;
+            } else {
+                assertTrue(response.get().contains("unavailable"));
+            }
+        }
+        clients.shutdown();
+        assertEquals(1, sold);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            socket.getOutputStream().write("delete Server Show|16/4/2033\n".getBytes(StandardCharsets.UTF_8));
+            readResponse(in);
+        }
+    }
+
+    private static String readResponse(BufferedReader in) throws Exception {
+        StringBuilder response = new StringBuilder();
+        String line;
+        while (!(line = in.readLine()).equals(".")) {
+            response.append(line.startsWith(".") ? line.substring(1) : line).append("\n");
+        }
+        return response.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package optix;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OptixTest {
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+
+    @Test
+    void testRunGuiAsync() throws Exception {
+        Optix optix = new Optix(filePath);
+        List<CompletableFuture<Optix.Result>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(optix.runGuiAsync("sell"));
+            results.add(optix.runGuiAsync("list"));
+        }
+        for (int i = 0; i < results.size(); i += 2) {
+            // each command gets its own response, even with other commands queued behind it.
+            assertEquals(optix.runCommand("sell").getMessage(), results.get(i).get().getMessage());
+            assertEquals("", results.get(i).get().getTaskType());
+            assertEquals("show", results.get(i + 1).get().getTaskType());
+        }
+        optix.shutdown();
+    }
+}
@@ -0,0 +1,71 @@
+package optix.commands.finance;
+
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ViewReportCommandTest {
+    private Ui ui;
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+    private Storage storage;
+    private Model model;
+
+    @BeforeEach
+    void init() {
+        this.ui = new Ui();
+        this.storage = new Storage(filePath);
+        this.model = new Model(storage);
+    }
+
+    @Test
+    @DisplayName("Incorrect number of parameters")
+    void testParseDetails() {
+        String expected = "☹ OOPS!!! That is an invalid command\n"
+                + "Please try again. \n";
+        new ViewReportCommand("1/1/2018").execute(model, ui, storage);
+        assertEquals(expected, ui.getMessage());
+        new ViewReportCommand("1/1/2018 1/2/2018 1/3/2018").execute(model, ui, storage);
+        assertEquals(expected, ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Invalid Date")
+    void testInvalidDate() {
+        new ViewReportCommand("1/1/2018 2018").execute(model, ui, storage);
+        String expected = "☹ OOPS!!! That is an invalid date.\n"
+                + "Please try again. \n";
+        assertEquals(expected, ui.getMessage());
+        new ViewReportCommand("2/1/2018 1/1/2018").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! The start date cannot be after the end date.\n", ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Valid Test for Archive Report")
+    void testArchiveReport() {
+        new ViewReportCommand("1/10/2018 30/11/2018").execute(model, ui, storage);
+        assertEquals("The earnings from 01/10/2018 to 30/11/2018 is $8000.00.\n"
+                + "Earnings by show:\n"
+                + "1. Harry Potter: $6000.00\n"
+                + "2. Lion King: $2000.00\n"
+                + "Earnings by month:\n"
+                + "October 2018: $2000.00\n"
+                + "November 2018: $6000.00\n", ui.getMessage());
+        new ViewReportCommand("1/1/2010 31/12/2010").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! There are no shows from 01/01/2010 to 31/12/2010.\n", ui.getMessage());
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        File deletedFile = new File(filePath, "optix.txt");
+        deletedFile.delete();
+    }
+}
@@ -0,0 +1,60 @@
+package optix.commands.seats;
+
+import optix.commands.shows.AddCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExchangeSeatCommandTest {
+    private Ui ui = new Ui();
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+    private Storage storage = new Storage(filePath);
+    private Model model = new Model(storage);
+
+    @BeforeEach
+    void init() {
+        this.ui = new Ui();
+        this.storage = new Storage(filePath);
+        this.model = new Model(storage);
+    }
+
+    @Test
+    @DisplayName("No Details Test")
+    void testNoDetails() {
+        new ExchangeSeatCommand("").execute(model, ui, storage);
+        String expected = "☹ OOPS!!! That is an invalid command\n"
+                + "Please try again. \n";
+        assertEquals(expected, ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Exchange seats")
+    void testExchangeSeats() {
+        new AddCommand("Exchange Show|20|3/3/2031").execute(model, ui, storage);
+        new AddCommand("Exchange Show|20|4/3/2031").execute(model, ui, storage);
+        new SellSeatCommand("Exchange Show|3/3/2031|A1 A2").execute(model, ui, storage);
+
+        new ExchangeSeatCommand("Exchange Show|3/3/2031|A1 A2|Exchange Show|4/3/2031|A1 A11").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! The seats [A11] do not exist.\n", ui.getMessage());
+
+        new ExchangeSeatCommand("Exchange Show|3/3/2031|A1 A2|Exchange Show|4/3/2031|E1 E2").execute(model, ui, storage);
+        String expected = "Your seats have been successfully exchanged from [A1, A2] to [E1, E2].\n"
+                + "$20.00 will be returned.\n";
+        assertEquals(expected, ui.getMessage());
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        File deletedFile = new File(filePath, "optix.txt");
+        deletedFile.delete();
+    }
+}
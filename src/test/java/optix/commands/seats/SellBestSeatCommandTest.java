@@ -0,0 +1,80 @@
+package optix.commands.seats;
+
+import optix.commands.shows.AddCommand;
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SellBestSeatCommandTest {
+    private Ui ui = new Ui();
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+    private Storage storage = new Storage(filePath);
+    private Model model = new Model(storage);
+
+    @BeforeEach
+    void init() {
+        this.ui = new Ui();
+        this.storage = new Storage(filePath);
+        this.model = new Model(storage);
+    }
+
+    @Test
+    @DisplayName("No Details Test")
+    void testNoDetails() {
+        new SellBestSeatCommand("").execute(model, ui, storage);
+        String expected = "☹ OOPS!!! That is an invalid command\n"
+                + "Please try again. \n";
+        assertEquals(expected, ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Invalid Number of Seats")
+    void testInvalidNumber() {
+        new AddCommand("Test Show|20|14/2/2031").execute(model, ui, storage);
+        new SellBestSeatCommand("Test Show|14/2/2031|two").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! The number of seats must be a positive whole number.\n", ui.getMessage());
+        new SellBestSeatCommand("Test Show|14/2/2031|2|4").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! The seat tier must be 1, 2 or 3.\n", ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Sell best seats")
+    void testSellBestSeats() {
+        new AddCommand("Test Show|20|14/2/2031").execute(model, ui, storage);
+        new SellBestSeatCommand("Test Show|14/2/2031|4|1").execute(model, ui, storage);
+        String expected = "You have successfully purchased the following seats: \n"
+                + "[E4, E5, E6, E7]\n"
+                + "The total cost of the tickets are $80.00\n";
+        assertEquals(expected, ui.getMessage());
+
+        new SellBestSeatCommand("Test Show|14/2/2031|4|1").execute(model, ui, storage);
+        expected = "You have successfully purchased the following seats: \n"
+                + "[F4, F5, F6, F7]\n"
+                + "The total cost of the tickets are $80.00\n";
+        assertEquals(expected, ui.getMessage());
+
+        new SellBestSeatCommand("Test Show|14/2/2031|4|1").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! There are no 4 seats next to each other available.\n", ui.getMessage());
+
+        new SellBestSeatCommand("Test Show|14/2/2031|3").execute(model, ui, storage);
+        expected = "You have successfully purchased the following seats: \n"
+                + "[A4, A5, A6]\n"
+                + "The total cost of the tickets are $90.00\n";
+        assertEquals(expected, ui.getMessage());
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        File deletedFile = new File(filePath, "optix.txt");
+        deletedFile.delete();
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -101,6 +102,24 @@ class AddCommandTest {
         assertEquals(expected, ui.getMessage());
     }
 
+    @Test
+    @DisplayName("Recurring shows test")
+    void testAddRecurringShows() {
+        model.addShow("Other Show", LocalDate.of(2032, 3, 4), 2000);
+        // 1/3/2032 is a Monday.
+        AddCommand c = new AddCommand("Run Show|20|every mon,wed-thu from 1/3/2032 to 10/3/2032 except 8/3/2032");
+        c.execute(model, ui, storage);
+        String expected = "Noted. The following shows has been added:\n"
+                + "1. Run Show (on: 01/03/2032)\n"
+                + "2. Run Show (on: 03/03/2032)\n"
+                + "3. Run Show (on: 10/03/2032)\n"
+                + "\n"
+                + "☹ OOPS!!! Unable to add the following shows:\n"
+                + "1. Run Show (on: 04/03/2032)\n";
+        assertEquals(expected, ui.getMessage());
+        assertEquals(3, model.getShows().getShowDates("run show").size());
+    }
+
     @AfterEach
     void cleanUp() {
         File deletedFile = new File(filePath, "optix.txt");
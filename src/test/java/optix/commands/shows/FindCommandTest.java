@@ -0,0 +1,51 @@
+package optix.commands.shows;
+
+import optix.commons.Model;
+import optix.commons.Storage;
+import optix.ui.Ui;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FindCommandTest {
+    private Ui ui;
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testOptix");
+    private Storage storage;
+    private Model model;
+
+    @BeforeEach
+    void init() {
+        this.ui = new Ui();
+        this.storage = new Storage(filePath);
+        this.model = new Model(storage);
+    }
+
+    @Test
+    @DisplayName("Show Not Found")
+    void testShowNotFound() {
+        new FindCommand("Cats").execute(model, ui, storage);
+        assertEquals("☹ OOPS!!! There are no shows matching Cats.\n", ui.getMessage());
+    }
+
+    @Test
+    @DisplayName("Prefix and typo matches")
+    void testValidFind() {
+        new AddCommand("Dummy Show|20|5/5/2099").execute(model, ui, storage);
+        new FindCommand("dum").execute(model, ui, storage);
+        assertEquals("Here are the shows matching dum:\n" + "1. Dummy Show\n", ui.getMessage());
+        new FindCommand("Lion Kng").execute(model, ui, storage);
+        assertEquals("Here are the shows matching Lion Kng:\n" + "1. Lion King\n", ui.getMessage());
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        File deletedFile = new File(filePath, "optix.txt");
+        deletedFile.delete();
+    }
+}
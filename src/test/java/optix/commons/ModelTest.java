@@ -0,0 +1,141 @@
+package optix.commons;
+
+import optix.commons.model.PricingEngine;
+import optix.commons.model.SeatTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelTest {
+    private static File currentDir = new File(System.getProperty("user.dir"));
+    private static File filePath = new File(currentDir.toString() + "\\src\\test\\data\\testModel");
+    private Model model;
+
+    @BeforeEach
+    void init() {
+        model = new Model(new Storage(filePath));
+    }
+
+    @Test
+    void testViewsWhileScheduleChanges() throws Exception {
+        LocalDate showDate = LocalDate.of(2034, 5, 1);
+        model.addShow("Stable Show", showDate, 2000);
+        model.sellSeats(showDate, "A1");
+        String seatMap = model.viewSeats(showDate);
+
+        // another thread keeps adding and deleting shows while the views run.
+        AtomicBoolean isDone = new AtomicBoolean();
+        Thread scheduler = new Thread(() -> {
+            LocalDate otherDate = showDate.plusDays(1);
+            while (!isDone.get()) {
+                model.addShow("Busy Show", otherDate, 2000);
+                model.deleteShow(otherDate);
+            }
+        });
+        scheduler.start();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(seatMap, model.viewSeats(showDate));
+                assertTrue(model.containsKey(showDate));
+                assertTrue(model.hasSameName(showDate, "stable show"));
+                assertFalse(model.hasSameName(showDate, "busy show"));
+            }
+        } finally {
+            isDone.set(true);
+            scheduler.join();
+        }
+        model.deleteShow(showDate);
+    }
+
+    @Test
+    void testHoldSeats() {
+        LocalDate showDate = LocalDate.of(2034, 6, 1);
+        assertEquals("☹ OOPS!!! The show cannot be found.\n", model.holdSeats(showDate, 10, "A1"));
+        model.addShow("Hold Show", showDate, 2000);
+        assertThrows(ArithmeticException.class, () -> model.holdSeats(showDate, Long.MAX_VALUE / 1000, "A1"));
+        assertFalse(model.getShows().get(showDate).isSeatHeld("A1"));
+        model.deleteShow(showDate);
+    }
+
+    @Test
+    void testSurcharges() {
+        model = new Model(new Storage(filePath), Clock.fixed(Instant.parse("2034-07-01T10:00:00Z"), ZoneOffset.UTC));
+        LocalDate showDate = LocalDate.of(2034, 7, 2);
+        LocalDate laterDate = LocalDate.of(2034, 7, 3);
+        model.addShow("Priced Show", showDate, 2000);
+        long tierPrice = model.getShows().get(showDate).getTierPrice(SeatTier.ONE);
+        assertFalse(model.hasSurcharges());
+
+        // both shows are 3 days away or less, so their prices rise by 10%.
+        model.setSurcharges(true);
+        model.addShow("Priced Show", laterDate, 2000);
+        assertTrue(model.hasSurcharges());
+        assertEquals(PricingEngine.adjust(tierPrice, 10), model.getShows().get(showDate).getTierPrice(SeatTier.ONE));
+        assertEquals(PricingEngine.adjust(tierPrice, 10), model.getShows().get(laterDate).getTierPrice(SeatTier.ONE));
+
+        model.setSurcharges(false);
+        assertEquals(tierPrice, model.getShows().get(showDate).getTierPrice(SeatTier.ONE));
+        model.deleteShow(showDate);
+        model.deleteShow(laterDate);
+    }
+
+    @Test
+    void testSellBestSeatsWhileSingleSeatsSell() throws Exception {
+        List<String> allSeats = new ArrayList<>();
+        for (char row = 'A'; row <= 'F'; row++) {
+            for (int col = 1; col <= 10; col++) {
+                allSeats.add(row + Integer.toString(col));
+            }
+        }
+        for (int round = 0; round < 50; round++) {
+            LocalDate showDate = LocalDate.of(2034, 8, 1).plusDays(round);
+            model.addShow("Busy Show", showDate, 2000);
+            List<String> singleSeats = new ArrayList<>(allSeats);
+            Collections.shuffle(singleSeats);
+            Set<String> singleSold = ConcurrentHashMap.newKeySet();
+            Thread seller = new Thread(() -> {
+                for (String seat : singleSeats) {
+                    if (model.sellSeats(showDate, seat).startsWith("You have successfully")) {
+                        singleSold.add(seat);
+                    }
+                }
+            });
+            seller.start();
+            List<String> bestSold = new ArrayList<>();
+            try {
+                String message;
+                while (!(message = model.sellBestSeats(showDate, 3, null)).isEmpty()) {
+                    if (message.startsWith("You have successfully")) {
+                        String[] seats = message.substring(message.indexOf('[') + 1, message.indexOf(']')).split(", ");
+                        // the block is sold whole, never with some of its seats taken by the single sales.
+                        assertEquals(3, seats.length);
+                        bestSold.addAll(List.of(seats));
+                    }
+                }
+            } finally {
+                seller.join();
+            }
+            for (String seat : bestSold) {
+                assertFalse(singleSold.contains(seat));
+                assertTrue(model.getShows().get(showDate).isSeatSold(seat));
+            }
+            model.deleteShow(showDate);
+        }
+    }
+}
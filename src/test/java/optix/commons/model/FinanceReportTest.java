@@ -0,0 +1,51 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FinanceReportTest {
+
+    @Test
+    void testReportMatchesSequentialSums() {
+        // enough shows that the report is split across several tasks.
+        TreeMap<LocalDate, Theatre> archive = new TreeMap<>();
+        TreeMap<LocalDate, Theatre> schedule = new TreeMap<>();
+        long archiveTotal = 0;
+        long lionKingTotal = 0;
+        long januaryTotal = 0;
+        LocalDate showDate = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < 5000; i++) {
+            String showName = i % 3 == 0 ? "Lion King" : "Harry Potter";
+            long profit = i * 100L;
+            archive.put(showDate, new Theatre(new Show(showName, profit)));
+            archiveTotal += profit;
+            if (i % 3 == 0) {
+                lionKingTotal += profit;
+            }
+            if (YearMonth.from(showDate).equals(YearMonth.of(2005, 1))) {
+                januaryTotal += profit;
+            }
+            showDate = showDate.plusDays(1);
+        }
+        schedule.put(showDate, new Theatre(new Show("lion king", 500)));
+
+        List<FinanceReport> reports = FinanceReport.of(List.of(archive, schedule));
+        assertEquals(archiveTotal, reports.get(0).getTotal());
+        assertEquals(5000, reports.get(0).getShowCount());
+        assertEquals(500, reports.get(1).getTotal());
+
+        FinanceReport report = reports.get(0).merge(reports.get(1));
+        assertEquals(archiveTotal + 500, report.getTotal());
+        assertEquals(5001, report.getShowCount());
+        assertEquals(2, report.getShowTotals().size());
+        assertEquals(Long.valueOf(lionKingTotal + 500), report.getShowTotals().get("LION KING"));
+        assertEquals(Long.valueOf(januaryTotal), report.getMonthlyTotals().get(YearMonth.of(2005, 1)));
+        assertEquals(YearMonth.of(2000, 1), report.getMonthlyTotals().firstKey());
+    }
+}
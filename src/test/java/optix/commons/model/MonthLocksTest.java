@@ -0,0 +1,65 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonthLocksTest {
+    private LocalDate march = LocalDate.of(2030, 3, 15);
+    private LocalDate april = LocalDate.of(2030, 4, 15);
+    private MonthLocks locks = new MonthLocks();
+
+    @Test
+    void testChangeOnlyHoldsUpItsMonths() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        Thread writer = new Thread(() -> locks.write(List.of(march), () -> {
+            isWriting.countDown();
+            try {
+                canFinish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        writer.start();
+        assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+
+        // sales and views in another month go ahead while march is being changed.
+        assertEquals("sold", locks.read(april, () -> "sold"));
+        assertEquals("viewed", locks.view(april, april, () -> "viewed"));
+
+        // a view of march waits for the change, as it cannot be validated while the change is in progress.
+        CompletableFuture<String> marchView = CompletableFuture.supplyAsync(() -> locks.view(march, march, () -> "viewed"));
+        Thread.sleep(100);
+        assertFalse(marchView.isDone());
+        canFinish.countDown();
+        writer.join();
+        assertEquals("viewed", marchView.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testViewAcrossMonths() {
+        // locks of several months are taken in stripe order whatever the order of the dates.
+        assertEquals("changed", locks.write(List.of(april, march, april), () -> "changed"));
+        assertEquals("sold", locks.read(List.of(april, march), () -> "sold"));
+        assertEquals("viewed", locks.view(march, april, () -> "viewed"));
+    }
+
+    @Test
+    void testMonthsSharingStripe() {
+        // months 64 months apart share a lock, which is only taken once.
+        LocalDate sameStripe = march.plusMonths(64);
+        assertEquals("changed", locks.write(List.of(march, sameStripe), () -> "changed"));
+        assertEquals("sold", locks.read(List.of(sameStripe, march), () -> "sold"));
+        assertEquals("viewed", locks.view(march, march.plusYears(20), () -> "viewed"));
+    }
+}
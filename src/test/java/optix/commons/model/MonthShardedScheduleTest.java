@@ -0,0 +1,95 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonthShardedScheduleTest {
+    private static final int NUMBER_OF_MONTHS = 12;
+
+    private LocalDate date = LocalDate.of(2030, 1, 1);
+    private MonthShardedSchedule schedule = new MonthShardedSchedule();
+
+    @Test
+    void testOrderAcrossMonths() {
+        schedule.put(date.plusMonths(2), new Theatre("March Show", 2000));
+        schedule.put(date.plusDays(20), new Theatre("January Show", 2000));
+        schedule.put(date.minusYears(1), new Theatre("Last Year Show", 2000));
+        schedule.put(date, new Theatre("New Year Show", 2000));
+
+        List<LocalDate> dates = new ArrayList<>(schedule.keySet());
+        assertEquals(List.of(date.minusYears(1), date, date.plusDays(20), date.plusMonths(2)), dates);
+        assertEquals(4, schedule.size());
+
+        assertEquals("January Show", schedule.remove(date.plusDays(20)).getShowName());
+        assertNull(schedule.remove(date.plusDays(20)));
+        assertFalse(schedule.containsKey(date.plusDays(20)));
+        assertEquals(3, schedule.size());
+    }
+
+    @Test
+    void testEmptiedMonthIsDropped() {
+        schedule.put(date, new Theatre("New Year Show", 2000));
+        schedule.put(date.plusDays(1), new Theatre("New Year Show", 2000));
+        schedule.put(date.plusMonths(1), new Theatre("February Show", 2000));
+        assertEquals(2, schedule.getMonthCount());
+
+        schedule.remove(date);
+        assertEquals(2, schedule.getMonthCount());
+        schedule.remove(date.plusDays(1));
+        assertEquals(1, schedule.getMonthCount());
+        assertTrue(schedule.range(date, date.plusMonths(1)).isEmpty());
+
+        schedule.put(date, new Theatre("New Year Show", 2000));
+        assertEquals(2, schedule.getMonthCount());
+        assertEquals("New Year Show", schedule.get(date).getShowName());
+    }
+
+    @Test
+    void testRange() {
+        for (int i = 0; i < 100; i++) {
+            schedule.put(date.plusDays(i), new Theatre("Test Show", 2000));
+        }
+        Map<LocalDate, Theatre> range = schedule.range(LocalDate.of(2030, 1, 30), LocalDate.of(2030, 3, 2));
+        assertEquals(31, range.size());
+        assertEquals(LocalDate.of(2030, 1, 30), range.keySet().iterator().next());
+        assertTrue(range.containsKey(LocalDate.of(2030, 3, 1)));
+        assertFalse(range.containsKey(LocalDate.of(2030, 3, 2)));
+        assertTrue(schedule.range(date, date).isEmpty());
+    }
+
+    @Test
+    void testConcurrentMonths() throws InterruptedException {
+        List<Thread> schedulers = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_MONTHS; i++) {
+            LocalDate firstOfMonth = date.plusMonths(i);
+            Thread scheduler = new Thread(() -> {
+                for (int day = 0; day < firstOfMonth.lengthOfMonth(); day++) {
+                    schedule.put(firstOfMonth.plusDays(day), new Theatre("Test Show", 2000));
+                }
+                schedule.remove(firstOfMonth);
+            });
+            schedulers.add(scheduler);
+            scheduler.start();
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+
+        assertEquals(365 - NUMBER_OF_MONTHS, schedule.size());
+        LocalDate previous = null;
+        for (LocalDate showDate : schedule.keySet()) {
+            assertTrue(previous == null || previous.isBefore(showDate));
+            assertFalse(showDate.getDayOfMonth() == 1);
+            previous = showDate;
+        }
+    }
+}
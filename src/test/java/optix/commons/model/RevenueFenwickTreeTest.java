@@ -0,0 +1,65 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevenueFenwickTreeTest {
+    private LocalDate date = LocalDate.of(2020, 5, 5);
+    private RevenueFenwickTree tree;
+
+    @BeforeEach
+    void init() {
+        tree = new RevenueFenwickTree();
+        tree.add(date, 100);
+        tree.add(date.plusDays(1), 50);
+    }
+
+    @Test
+    void testSum() {
+        assertEquals(150, tree.sum(date, date.plusDays(1)));
+        assertEquals(100, tree.sum(date.minusYears(1), date));
+        assertEquals(0, tree.sum(date.plusDays(2), date.plusYears(1)));
+        assertEquals(0, tree.sum(date.plusDays(1), date));
+        tree.add(date, -100);
+        assertEquals(50, tree.sum(date, date.plusDays(1)));
+    }
+
+    @Test
+    void testGrow() {
+        tree.add(date.plusYears(3), 20);
+        tree.add(date.minusYears(5), 30);
+        assertEquals(200, tree.sum(date.minusYears(10), date.plusYears(10)));
+        assertEquals(150, tree.sum(date, date.plusDays(1)));
+        assertEquals(30, tree.sum(date.minusYears(5), date.minusYears(5)));
+        assertEquals(20, tree.sum(date.plusDays(2), date.plusYears(3)));
+    }
+
+    @Test
+    void testGrowWhileAdding() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> adding = executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    tree.add(date, 1);
+                }
+            });
+            Future<?> growing = executor.submit(() -> {
+                for (int i = 1; i <= 2000; i++) {
+                    tree.add(date.plusDays(i * 5), 0);
+                }
+            });
+            adding.get();
+            growing.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100_100, tree.sum(date, date));
+    }
+}
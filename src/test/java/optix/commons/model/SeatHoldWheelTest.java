@@ -0,0 +1,57 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatHoldWheelTest {
+    private Theatre theatre;
+    private SeatHoldWheel wheel;
+
+    @BeforeEach
+    void init() {
+        theatre = new Theatre("Test Show", 2000);
+        wheel = new SeatHoldWheel(1000, 0);
+    }
+
+    @Test
+    void testHoldLapses() {
+        theatre.holdSeats(1, 1, "A1", "A2");
+        wheel.schedule(theatre, 1, new String[]{"A1", "A2"}, 60_000);
+        assertEquals("18", theatre.getTierThreeSeats());
+
+        assertEquals(0, wheel.advance(59_999));
+        assertTrue(theatre.getSeats()[0][0].isHeld());
+        assertEquals(1, wheel.advance(60_000));
+        assertFalse(theatre.getSeats()[0][0].isHeld());
+        assertEquals("20", theatre.getTierThreeSeats());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testSoldHoldIsNotReleased() {
+        theatre.holdSeats(1, 1, "A1", "A2");
+        wheel.schedule(theatre, 1, new String[]{"A1", "A2"}, 60_000);
+        theatre.sellSeats(1, "A1");
+        wheel.advance(60_000);
+        assertTrue(theatre.getSeats()[0][0].isSold());
+        assertTrue(theatre.getSeats()[0][1].isAvailable());
+        assertEquals("19", theatre.getTierThreeSeats());
+    }
+
+    @Test
+    void testHoldsBeyondOneRotation() {
+        // 512 slots of one second, so these holds share slots with different rotations.
+        for (int i = 1; i <= 10; i++) {
+            theatre.holdSeats(i, 1, "F" + i);
+            wheel.schedule(theatre, i, new String[]{"F" + i}, i * 200_000L);
+        }
+        assertEquals(2, wheel.advance(400_000));
+        assertEquals(8, wheel.size());
+        assertEquals(8, wheel.advance(10_000_000));
+        assertEquals("20", theatre.getTierOneSeats());
+    }
+}
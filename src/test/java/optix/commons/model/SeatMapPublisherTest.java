@@ -0,0 +1,104 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SeatMapPublisherTest {
+    private Theatre theatre;
+    private RecordingSubscriber subscriber;
+
+    @BeforeEach
+    void init() {
+        theatre = new Theatre("Test Show", 2000);
+        subscriber = new RecordingSubscriber();
+        theatre.getSeatChanges().subscribe(subscriber);
+    }
+
+    @Test
+    void testDeltasOfChangedSeats() throws Exception {
+        subscriber.subscription.request(Long.MAX_VALUE);
+        theatre.sellSeats("A1");
+        assertEquals("A1 SOLD", subscriber.next());
+        theatre.holdSeats(1, 15, "B2");
+        assertEquals("B2 HELD", subscriber.next());
+        theatre.refundSeat("A1");
+        assertEquals("A1 AVAILABLE", subscriber.next());
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testSlowSubscriberGetsLatestStateOnce() throws Exception {
+        // nothing is delivered before it is requested, and changes to the same seat are merged meanwhile.
+        theatre.sellSeats("C3");
+        theatre.refundSeat("C3");
+        theatre.sellSeats("C3");
+        theatre.sellSeats("A10");
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+
+        subscriber.subscription.request(1);
+        assertEquals("A10 SOLD", subscriber.next());
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+        subscriber.subscription.request(5);
+        assertEquals("C3 SOLD", subscriber.next());
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.cancel();
+        theatre.sellSeats("A1");
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testFailingSubscriberIsToldWhy() throws Exception {
+        subscriber.failingDelta = "A1 SOLD";
+        subscriber.subscription.request(Long.MAX_VALUE);
+        theatre.sellSeats("A1");
+        assertEquals("ERROR drawing failed", subscriber.next());
+        theatre.sellSeats("A2");
+        assertNull(subscriber.deltas.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<SeatDelta> {
+        private final BlockingQueue<String> deltas = new LinkedBlockingQueue<>();
+        private Flow.Subscription subscription;
+        // delta that makes onNext throw, or null.
+        private volatile String failingDelta;
+
+        private String next() throws InterruptedException {
+            return deltas.poll(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SeatDelta delta) {
+            if (delta.toString().equals(failingDelta)) {
+                throw new IllegalStateException("drawing failed");
+            }
+            deltas.add(delta.toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            deltas.add("ERROR " + throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -10,7 +10,7 @@ class SeatTest {
 
     @BeforeEach
     void init() {
-        seat = new Seat("1");
+        seat = new Seat(SeatTier.ONE);
     }
 
     @Test
@@ -23,10 +23,11 @@ class SeatTest {
 
     @Test
     void testGetSeatPrice() {
-        assertEquals(30, seat.getSeatPrice(30));
-        seat.setSeatTier("2");
-        assertEquals(24, seat.getSeatPrice(20));
-        seat.setSeatTier("3");
-        assertEquals(30, seat.getSeatPrice(20));
+        TierPricing pricing = TierPricing.DEFAULT;
+        assertEquals(30, pricing.getPrice(seat.getSeatTier(), 30));
+        seat.setSeatTier(SeatTier.TWO);
+        assertEquals(24, pricing.getPrice(seat.getSeatTier(), 20));
+        seat.setSeatTier(SeatTier.THREE);
+        assertEquals(30, pricing.getPrice(seat.getSeatTier(), 20));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatTransactionTest {
+    private LocalDate date1 = LocalDate.of(2020, 10, 10);
+    private LocalDate date2 = LocalDate.of(2020, 11, 11);
+    private ShowMap shows;
+
+    @BeforeEach
+    void init() {
+        shows = new ShowMap();
+        shows.addShow("Test Show", date1, 2000);
+        shows.addShow("Test Show", date2, 2000);
+        shows.sellSeats(date1, "A1");
+    }
+
+    @Test
+    void testInvalidBatchChangesNothing() {
+        SeatTransaction transaction = new SeatTransaction().sell(date1, "E1", "A1", "Z1").remove(date2, "A1");
+        String expected = "☹ OOPS!!! The seats [Z1] do not exist.\n"
+                + "☹ OOPS!!! The seats [A1] are unavailable.\n"
+                + "☹ OOPS!!! The seats [A1] are not yet sold.\n";
+        assertEquals(expected, shows.commitSeatTransaction(transaction));
+        assertFalse(shows.get(date1).isSeatSold("E1"));
+        assertEquals(3000, shows.getProfit(date1, date2));
+    }
+
+    @Test
+    void testExchangeAcrossShows() {
+        SeatTransaction transaction = new SeatTransaction().remove(date1, "A1").sell(date2, "E1", "E2");
+        assertEquals("", shows.commitSeatTransaction(transaction));
+        assertFalse(shows.get(date1).isSeatSold("A1"));
+        assertTrue(shows.get(date2).isSeatSold("E2"));
+        assertEquals(4000, transaction.getTotalSold());
+        assertEquals(3000, transaction.getTotalRemoved());
+        assertEquals(4000, shows.getProfit(date1, date2));
+    }
+
+    @Test
+    void testHeldSeatsAreNotSold() {
+        shows.get(date2).holdSeats(1, 10, "E1");
+        SeatTransaction transaction = new SeatTransaction().sell(date2, "E1", "E2");
+        assertEquals("☹ OOPS!!! The seats [E1] are unavailable.\n", shows.commitSeatTransaction(transaction));
+        assertTrue(shows.get(date2).getSeats()[4][0].isHeld());
+        assertFalse(shows.get(date2).isSeatSold("E2"));
+    }
+
+    @Test
+    void testLaterChangesSeeEarlierChanges() {
+        SeatTransaction transaction = new SeatTransaction().remove(date1, "a1").sell(date1, "A1");
+        assertEquals("", shows.commitSeatTransaction(transaction));
+        transaction = new SeatTransaction().sell(date1, "B1", "B1");
+        assertEquals("☹ OOPS!!! The seats [B1] are unavailable.\n", shows.commitSeatTransaction(transaction));
+    }
+}
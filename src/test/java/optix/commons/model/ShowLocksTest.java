@@ -0,0 +1,60 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShowLocksTest {
+    private static final int NUMBER_OF_SHOWS = 8;
+
+    private LocalDate date = LocalDate.of(2030, 1, 1);
+    private ShowLocks locks = new ShowLocks();
+
+    @Test
+    void testWithLocks() {
+        List<LocalDate> dates = Arrays.asList(date.plusDays(100), date, date.plusDays(1));
+        assertTrue(locks.withLocks(dates, () -> locks.isHeldByCurrentThread(date)
+                && locks.isHeldByCurrentThread(date.plusDays(1)) && locks.isHeldByCurrentThread(date.plusDays(100))));
+        assertFalse(locks.isHeldByCurrentThread(date));
+        assertFalse(locks.withLock(date, () -> locks.isHeldByCurrentThread(date.plusDays(1))));
+    }
+
+    @Test
+    void testConcurrentSales() throws InterruptedException {
+        ShowMap shows = new ShowMap();
+        for (int i = 0; i < NUMBER_OF_SHOWS; i++) {
+            shows.addShow("Test Show", date.plusDays(i), 2000);
+        }
+
+        List<Thread> sellers = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SHOWS; i++) {
+            LocalDate showDate = date.plusDays(i);
+            Thread seller = new Thread(() -> {
+                for (int seat = 1; seat <= 10; seat++) {
+                    String seatNumber = "A" + seat;
+                    locks.withLock(showDate, () -> shows.sellSeats(showDate, seatNumber));
+                }
+            });
+            sellers.add(seller);
+            seller.start();
+        }
+        for (Thread seller : sellers) {
+            seller.join();
+        }
+
+        long total = 0;
+        for (int i = 0; i < NUMBER_OF_SHOWS; i++) {
+            total += shows.getProfit(date.plusDays(i));
+        }
+        assertTrue(total > 0);
+        assertEquals(total, shows.getProfit(date, date.plusDays(NUMBER_OF_SHOWS)));
+        assertEquals(total, shows.getShowProfit("test show"));
+    }
+}
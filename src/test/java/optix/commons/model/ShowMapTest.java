@@ -4,9 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ShowMapTest {
@@ -16,7 +21,7 @@ class ShowMapTest {
 
     @BeforeEach
     void init() {
-        shows.addShow("Test Show", date1, 20);
+        shows.addShow("Test Show", date1, 2000);
     }
 
     @Test
@@ -33,6 +38,28 @@ class ShowMapTest {
         assertTrue(shows.containsKey(date2));
     }
 
+    @Test
+    void testVersionedEdits() {
+        long version = shows.getShowVersion(date1);
+        assertEquals(-1, shows.getShowVersion(date2));
+        shows.editShowName(date1, "Edited Show");
+        assertFalse(shows.editShowName(date1, "Stale Edit", version)); // renamed since it was read.
+        assertEquals("Edited Show", shows.getShowName(date1));
+
+        version = shows.getShowVersion(date1);
+        shows.addShow("Other Show", date2, 2000);
+        assertFalse(shows.rescheduleShow(date1, date2, version)); // new date taken since it was read.
+        assertTrue(shows.rescheduleShow(date1, date2.plusDays(1), version));
+        assertFalse(shows.editShowName(date2.plusDays(1), "Stale Edit", version)); // rescheduled since it was read.
+
+        // a new show on the same date never has the stamp of the show it replaced.
+        version = shows.getShowVersion(date2);
+        shows.deleteShow(date2);
+        shows.addShow("Other Show", date2, 2000);
+        assertFalse(shows.editShowName(date2, "Stale Edit", version));
+        assertTrue(shows.editShowName(date2, "Edited Show", shows.getShowVersion(date2)));
+    }
+
     @Test
     void testListShow() {
         shows.addShow("Test Show 2", date2, 20);
@@ -46,6 +73,117 @@ class ShowMapTest {
         assertEquals(expected, shows.listFinance());
     }
 
+    @Test
+    void testListShowByName() {
+        shows.addShow("Test Show", date2, 20);
+        shows.addShow("Other Show", LocalDate.of(2020, 12, 12), 20);
+        assertEquals(2, shows.listShow("test show").size());
+        assertTrue(shows.hasSameName(date1, "TEST SHOW"));
+
+        shows.editShowName(date1, "Edited Show");
+        assertEquals(1, shows.listShow("test show").size());
+        assertTrue(shows.hasSameName(date1, "edited show"));
+        assertFalse(shows.hasSameName(date1, "test show"));
+
+        shows.rescheduleShow(date2, date1.minusDays(1));
+        assertTrue(shows.getShowDates("Test Show").contains(date1.minusDays(1)));
+        assertFalse(shows.getShowDates("Test Show").contains(date2));
+
+        shows.deleteShow(date1.minusDays(1));
+        assertTrue(shows.listShow("Test Show").isEmpty());
+    }
+
+    @Test
+    void testCalendarViews() {
+        shows.addShow("Test Show", LocalDate.of(2020, 10, 12), 20);
+        shows.addShow("Test Show", LocalDate.of(2020, 10, 31), 20);
+        shows.addShow("Test Show", date2, 20);
+        ShowSnapshot snapshot = shows.snapshot();
+
+        assertEquals(3, snapshot.month(YearMonth.of(2020, 10)).size());
+        assertEquals(0, snapshot.month(YearMonth.of(2020, 9)).size());
+        assertEquals(1, snapshot.day(date1).size());
+        // 10/10/2020 is a Saturday, so 12/10/2020 is in the next week.
+        assertEquals(1, snapshot.week(date1).size());
+        assertEquals(4, snapshot.quarter(2020, 4).size());
+        assertEquals(LocalDate.of(2020, 10, 31), snapshot.quarter(2020, 4).month(YearMonth.of(2020, 10)).range(
+                LocalDate.of(2020, 10, 11), LocalDate.of(2020, 11, 30)).keySet().toArray()[1]);
+        assertEquals(2, shows.listShow("test show").range(date1, LocalDate.of(2020, 10, 31)).size());
+        assertEquals(2, shows.listShow(date1, LocalDate.of(2020, 10, 31)).size());
+    }
+
+    @Test
+    void testSnapshot() {
+        ShowSnapshot snapshot = shows.snapshot();
+        assertSame(snapshot, shows.snapshot());
+
+        shows.addShow("Test Show", date2, 20);
+        assertEquals(1, snapshot.size());
+        assertFalse(snapshot.containsKey(date2));
+        ShowSnapshot latest = shows.snapshot();
+        assertTrue(latest.getVersion() > snapshot.getVersion());
+        assertEquals(shows, latest);
+
+        ShowSnapshot filtered = shows.listShow("test show");
+        shows.deleteShow(date1);
+        assertEquals(2, filtered.size());
+        assertEquals("Test Show", filtered.get(date1).getShowName());
+        assertThrows(UnsupportedOperationException.class, () -> latest.put(date1, null));
+    }
+
+    @Test
+    void testSnapshotAfterChangesToOneMonth() {
+        LocalDate date3 = LocalDate.of(2020, 11, 20);
+        shows.addShow("Test Show", date2, 2000);
+        ShowSnapshot snapshot = shows.snapshot();
+
+        shows.addShow("Test Show", date3, 2000);
+        shows.deleteShow(date1);
+        ShowSnapshot latest = shows.snapshot();
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.containsKey(date1));
+        assertEquals(2, latest.size());
+        assertFalse(latest.containsKey(date1));
+        assertEquals(new ArrayList<>(List.of(date2, date3)), new ArrayList<>(latest.keySet()));
+        assertEquals(1, latest.month(YearMonth.of(2020, 11)).range(date3, date3.plusDays(1)).size());
+        assertEquals(shows, latest);
+    }
+
+    @Test
+    void testRevenueAggregates() {
+        YearMonth october = YearMonth.of(2020, 10);
+        shows.addShow("Test Show", date1.plusDays(1), 2000);
+        shows.sellSeats(date1, "A1", "A2", "F1");
+        shows.sellSeats(date1.plusDays(1), "C1");
+        assertEquals(10400, shows.getMonthlyProfit(october));
+        assertEquals(2, shows.getMonthlyShowCount(october));
+        assertEquals(10400, shows.getShowProfit("test show"));
+        assertEquals(6000, shows.getTierProfit(SeatTier.THREE));
+        assertEquals(2400, shows.getTierProfit(SeatTier.TWO));
+        assertEquals(2000, shows.getTierProfit(SeatTier.ONE));
+
+        shows.refundSeats(date1, "A1");
+        assertEquals(8900, shows.getMonthlyProfit(october));
+        assertEquals(3000, shows.getTierProfit(SeatTier.THREE));
+        shows.removeSeats(date1.plusDays(1), "C1");
+        assertEquals(6500, shows.getMonthlyProfit(october));
+
+        shows.editShowName(date1, "Edited Show");
+        assertEquals(0, shows.getShowProfit("test show"));
+        assertEquals(6500, shows.getShowProfit("edited show"));
+
+        shows.rescheduleShow(date1, date2);
+        assertEquals(0, shows.getMonthlyProfit(october));
+        assertEquals(1, shows.getMonthlyShowCount(october));
+        assertEquals(6500, shows.getMonthlyProfit(YearMonth.from(date2)));
+        assertEquals("1. Test Show (on: 11/10/2020): $0.00\n"
+                + "2. Edited Show (on: 11/11/2020): $65.00\n", shows.listFinance());
+
+        shows.deleteShow(date2);
+        assertEquals(0, shows.getMonthlyShowCount(YearMonth.from(date2)));
+        assertEquals(0, shows.getTierProfit(SeatTier.THREE));
+    }
+
     @Test
     void testDeleteShow() {
         shows.deleteShow(date1);
@@ -91,4 +229,19 @@ class ShowMapTest {
                 + " view the available seats.\n";
         assertEquals(expected, shows.reassignSeat(date1, "A3", "A1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testChangeoverClash() {
+        assertEquals(null, shows.findChangeoverClash("Other Show", date1.plusDays(1)));
+
+        shows.setChangeoverDays(2);
+        assertEquals(date1, shows.findChangeoverClash("Other Show", date1.plusDays(2)));
+        assertEquals(date1, shows.findChangeoverClash("Other Show", date1.minusDays(1)));
+        assertEquals(null, shows.findChangeoverClash("Other Show", date1.plusDays(3)));
+        assertEquals(null, shows.findChangeoverClash("test show", date1.plusDays(1)));
+
+        shows.addShow("Test Show", date1.plusDays(1), 2000);
+        assertEquals(date1.plusDays(1), shows.findChangeoverClash("Other Show", date1.plusDays(3)));
+        assertEquals(null, shows.findChangeoverClash("Other Show", date1.plusDays(4)));
+    }
+}
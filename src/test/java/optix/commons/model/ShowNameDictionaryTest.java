@@ -0,0 +1,47 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShowNameDictionaryTest {
+    private ShowNameDictionary showNames = ShowNameDictionary.getInstance();
+
+    @Test
+    void testIntern() {
+        int id = showNames.intern("Dictionary Show");
+        assertEquals(id, showNames.intern(new String("Dictionary Show")));
+        assertSame(showNames.getName(id), new Show(new String("Dictionary Show"), 0).getShowName());
+
+        int otherCaseId = showNames.intern("DICTIONARY SHOW");
+        assertNotEquals(id, otherCaseId);
+        assertEquals(showNames.getKeyId(id), showNames.getKeyId(otherCaseId));
+        assertEquals(showNames.getKeyId(id), showNames.findKeyId("dictionary show"));
+        assertEquals(-1, showNames.findKeyId("Dictionary Show That Does Not Exist"));
+    }
+
+    @Test
+    void testInternBeyondCapacity() {
+        int firstId = showNames.intern("Growing Show 0");
+        for (int i = 1; i < 200; i++) {
+            assertEquals(firstId + i, showNames.intern("Growing Show " + i));
+        }
+        assertEquals("Growing Show 0", showNames.getName(firstId));
+        assertEquals("Growing Show 199", showNames.getName(firstId + 199));
+        assertEquals(showNames.findKeyId("growing show 150"), showNames.getKeyId(firstId + 150));
+    }
+
+    @Test
+    void testShowHasSameName() {
+        Show show = new Show("Dictionary Show", 0);
+        assertTrue(show.hasSameName("dictionary SHOW"));
+        assertTrue(show.hasSameName(new Show("DICTIONARY show", 0)));
+        assertFalse(show.hasSameName("Dictionary"));
+        show.setShowName("Renamed Dictionary Show");
+        assertEquals("Renamed Dictionary Show", show.getShowName());
+    }
+}
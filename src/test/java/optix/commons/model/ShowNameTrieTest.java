@@ -0,0 +1,46 @@
+package optix.commons.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShowNameTrieTest {
+    private ShowNameTrie trie;
+
+    @BeforeEach
+    void init() {
+        trie = new ShowNameTrie();
+        trie.add("Lion King");
+        trie.add("Lion King");
+        trie.add("Les Miserables");
+        trie.add("Phantom of the Opera");
+    }
+
+    @Test
+    void testFindByPrefix() {
+        assertEquals(Arrays.asList("Les Miserables", "Lion King"), trie.findByPrefix("l", 10));
+        assertEquals(Collections.singletonList("Lion King"), trie.findByPrefix("LION", 10));
+        assertEquals(Collections.singletonList("Les Miserables"), trie.findByPrefix("l", 1));
+        assertEquals(Collections.emptyList(), trie.findByPrefix("cats", 10));
+    }
+
+    @Test
+    void testFindSimilar() {
+        assertEquals(Collections.singletonList("Lion King"), trie.findSimilar("lion kng", 1));
+        assertEquals(Collections.singletonList("Phantom of the Opera"), trie.findSimilar("Phantm of teh Opera", 3));
+        assertEquals(Collections.emptyList(), trie.findSimilar("Phantm of teh Opera", 1));
+    }
+
+    @Test
+    void testRemove() {
+        trie.remove("Lion King");
+        assertEquals(Collections.singletonList("Lion King"), trie.findByPrefix("lion", 10));
+        trie.remove("lion king");
+        assertEquals(Collections.emptyList(), trie.findByPrefix("lion", 10));
+        assertEquals(Collections.singletonList("Les Miserables"), trie.findByPrefix("l", 10));
+    }
+}
@@ -3,6 +3,19 @@ package optix.commons.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,7 +24,7 @@ class TheatreTest {
 
     @BeforeEach
     void init() {
-        theatre = new Theatre("Test Show", 20);
+        theatre = new Theatre("Test Show", 2000);
     }
 
     @Test
@@ -56,14 +69,14 @@ class TheatreTest {
                 + "Tier 2 Seats (rows C and D): " + theatre.getTierTwoSeats() + "\n"
                 + "Tier 3 Seats (rows A and B): " + theatre.getTierThreeSeats() + "\n";
         assertEquals(expected, theatre.getSeatingArrangement());
-        assertEquals(60, theatre.getProfit());
+        assertEquals(6000, theatre.getProfit());
         Seat[][] seats = theatre.getSeats();
         assertTrue(seats[0][0].isSold());
         assertTrue(seats[0][1].isSold());
 
         theatre.sellSeats("A0"); // test none existent seat
         assertEquals(expected, theatre.getSeatingArrangement());
-        assertEquals(60, theatre.getProfit());
+        assertEquals(6000, theatre.getProfit());
     }
 
     @Test
@@ -90,7 +103,7 @@ class TheatreTest {
     @Test
     void testRemoveSeat() {
         theatre.sellSeats("A1", "A2", "A3", "F3");
-        assertEquals(110, theatre.getProfit());
+        assertEquals(11000, theatre.getProfit());
         theatre.removeSeat("A3");
         String expected = "                |STAGE|           \n"
                 + "  [✓][✓][✘][✘][✘][✘][✘][✘][✘][✘]\n"
@@ -103,17 +116,133 @@ class TheatreTest {
                 + "Tier 1 Seats (rows E and F): " + theatre.getTierOneSeats() + "\n"
                 + "Tier 2 Seats (rows C and D): " + theatre.getTierTwoSeats() + "\n"
                 + "Tier 3 Seats (rows A and B): " + theatre.getTierThreeSeats() + "\n";
-        assertEquals(80, theatre.getProfit());
+        assertEquals(8000, theatre.getProfit());
         assertEquals(expected, theatre.getSeatingArrangement());
-        assertEquals(20, theatre.removeSeat("F3"));
+        assertEquals(2000, theatre.removeSeat("F3"));
         assertEquals(0, theatre.removeSeat("F3"));
         theatre.removeSeat("A0");
-        assertEquals(60, theatre.getProfit());
+        assertEquals(6000, theatre.getProfit());
     }
 
     @Test
     void testWriteToFile() {
-        String expected = "Test Show | 0.000000 | 20.000000\n";
+        String expected = "Test Show | 0.00 | 20.00\n";
         assertEquals(expected, theatre.writeToFile());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTierPricing() {
+        theatre = new Theatre("Test Show", 0, 2000, new TierPricing(100, 150, 200));
+        assertEquals(3000, theatre.getTierPrice(SeatTier.TWO));
+        assertEquals(4000, theatre.sellSeats("A1"));
+        assertEquals(4000, theatre.getTierRevenue(SeatTier.THREE));
+        assertEquals("19", theatre.getTierThreeSeats());
+        assertEquals("Test Show | 40.00 | 20.00 | 100 150 200\n", theatre.writeToFile());
+    }
+
+    @Test
+    void testFindBestSeats() {
+        assertArrayEquals(new String[]{"C5", "C6"}, theatre.findBestSeats(2, SeatTier.TWO));
+        theatre.sellSeats("C5", "C6");
+        assertArrayEquals(new String[]{"D5", "D6"}, theatre.findBestSeats(2, SeatTier.TWO));
+        assertArrayEquals(new String[]{"A1", "A2", "A3", "A4", "A5", "A6", "A7", "A8", "A9", "A10"},
+                theatre.findBestSeats(10, null));
+        assertEquals(0, theatre.findBestSeats(11, null).length);
+    }
+
+    @Test
+    void testHoldSeats() {
+        String expected = "You have successfully held the following seats: \n"
+                + "[C5, C6]\n"
+                + "The seats will be held for 10 minutes.\n"
+                + "The hold number is 1. Give it when selling the seats.\n"
+                + "The following seats do not exist: \n"
+                + "[C11]\n";
+        assertEquals(expected, theatre.holdSeats(1, 10, "C5", "C6", "C11"));
+        assertEquals("☹ OOPS!!! All of the seats [C5] are unavailable.\n", theatre.holdSeats(2, 10, "C5"));
+        assertArrayEquals(new String[]{"D5", "D6"}, theatre.findBestSeats(2, SeatTier.TWO));
+        assertEquals(0, theatre.sellSeats("C5"));
+        assertEquals("☹ OOPS!!! All of the seats [C5] are unavailable.\n", theatre.sellSeats(2, "C5"));
+        theatre.sellSeats(1, "C5");
+        assertTrue(theatre.isSeatSold("C5"));
+        assertArrayEquals(new String[]{"C6"}, theatre.getHeldSeats(1, "C5", "C6", "C7"));
+        assertEquals(1, theatre.releaseHold(1, "C5", "C6"));
+        assertEquals("19", theatre.getTierTwoSeats());
+    }
+
+    @Test
+    void testDynamicPricing() {
+        PricingEngine engine = new PricingEngine(Clock.fixed(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC),
+                new PricingRule(PricingRule.Condition.OCCUPANCY, 50, 20),
+                new PricingRule(PricingRule.Condition.DAYS_UNTIL_SHOW, 3, 10),
+                new PricingRule(PricingRule.Condition.SALES_IN_LAST_DAY, 3, 5));
+        theatre = new Theatre("Test Show", 1000);
+        theatre.setShowDate(LocalDate.of(2030, 1, 10));
+        theatre.setPricingEngine(engine);
+
+        assertEquals(1000, theatre.getTierPrice(SeatTier.ONE));
+        theatre.sellSeats("E1", "E2", "E3");
+        assertEquals(1050, theatre.getTierPrice(SeatTier.ONE));
+        assertEquals(1050, theatre.sellSeats("E4"));
+        theatre.sellSeats("E5", "E6", "E7", "E8", "E9", "E10");
+        assertEquals(1250, theatre.getTierPrice(SeatTier.ONE));
+        assertEquals(1260, theatre.getTierPrice(SeatTier.TWO));
+
+        theatre.setShowDate(LocalDate.of(2030, 1, 3));
+        assertEquals(1380, theatre.getTierPrice(SeatTier.TWO));
+        assertEquals(1000, theatre.removeSeat("E1"));
+        assertEquals(1150, theatre.getTierPrice(SeatTier.ONE));
+    }
+
+    @Test
+    void testConcurrentSales() throws Exception {
+        LongAdder reportedProfit = new LongAdder();
+        theatre.setRevenueListener((show, tier, profitChange, tierRevenueChange) -> reportedProfit.add(profitChange));
+        List<String> allSeats = new ArrayList<>();
+        for (char row = 'A'; row <= 'F'; row++) {
+            for (int col = 1; col <= 10; col++) {
+                allSeats.add(row + Integer.toString(col));
+            }
+        }
+
+        // every seller tries to sell every seat, in a different order.
+        ExecutorService sellers = Executors.newFixedThreadPool(8);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            List<String> seats = new ArrayList<>(allSeats);
+            Collections.shuffle(seats);
+            results.add(sellers.submit(() -> {
+                long[] sold = new long[2];
+                for (String seat : seats) {
+                    long cost = theatre.sellSeats(seat);
+                    if (cost > 0) {
+                        sold[0]++;
+                        sold[1] += cost;
+                    }
+                }
+                return sold;
+            }));
+        }
+        long seatsSold = 0;
+        long totalCost = 0;
+        for (Future<long[]> result : results) {
+            seatsSold += result.get()[0];
+            totalCost += result.get()[1];
+        }
+        sellers.shutdown();
+
+        assertEquals(60, seatsSold);
+        assertEquals(totalCost, theatre.getProfit());
+        assertEquals(totalCost, reportedProfit.sum());
+        assertEquals(totalCost, theatre.getTierRevenue(SeatTier.ONE) + theatre.getTierRevenue(SeatTier.TWO)
+                + theatre.getTierRevenue(SeatTier.THREE));
+        assertEquals("0", theatre.getTierOneSeats());
+        assertEquals(0, theatre.findBestSeats(1, null).length);
+
+        theatre.removeSeat(allSeats.toArray(new String[0]));
+        assertEquals(0, theatre.getProfit());
+        assertEquals(0, reportedProfit.sum());
+        assertEquals("20", theatre.getTierOneSeats());
+        assertEquals(1, theatre.findBestSeats(10, SeatTier.ONE).length / 10);
+    }
+}
@@ -0,0 +1,25 @@
+package optix.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void testParse() {
+        assertEquals(2000, Money.parse("20"));
+        assertEquals(2050, Money.parse(" 20.5 "));
+        assertEquals(200000, Money.parse("2000.000000"));
+        assertEquals(3, Money.parse("0.025"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("twenty"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("20.00", Money.format(2000));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-1.50", Money.format(-150));
+    }
+}
@@ -0,0 +1,55 @@
+package optix.util;
+
+import optix.exceptions.OptixException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShowRecurrenceTest {
+
+    private List<LocalDate> expand(ShowRecurrence recurrence) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date : recurrence) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    @Test
+    void testIsRecurrence() {
+        assertTrue(ShowRecurrence.isRecurrence(" Every tue-sun from 1/5/2030 to 15/6/2030"));
+        assertFalse(ShowRecurrence.isRecurrence("1/5/2030|2/5/2030"));
+    }
+
+    @Test
+    void testExpand() throws OptixException {
+        // 6/5/2030 is a Monday.
+        ShowRecurrence recurrence = ShowRecurrence.parse("every tue-sun from 6/5/2030 to 19/5/2030 except 10/5/2030");
+        List<LocalDate> dates = expand(recurrence);
+        assertEquals(11, dates.size());
+        assertEquals(LocalDate.of(2030, 5, 7), dates.get(0));
+        assertEquals(LocalDate.of(2030, 5, 19), dates.get(10));
+        assertFalse(dates.contains(LocalDate.of(2030, 5, 10)));
+        assertFalse(recurrence.includes(LocalDate.of(2030, 5, 13)));
+
+        assertEquals(4, expand(ShowRecurrence.parse("every fri-sun,wed from 6/5/2030 to 12/5/2030")).size());
+        assertEquals(7, expand(ShowRecurrence.parse("every day from 6/5/2030 to 12/5/2030")).size());
+        assertEquals(0, expand(ShowRecurrence.parse("every mon from 7/5/2030 to 12/5/2030")).size());
+    }
+
+    @Test
+    void testInvalidRule() {
+        assertThrows(OptixException.class, () -> ShowRecurrence.parse("every tue-sun from 6/5/2030"));
+        assertThrows(OptixException.class, () -> ShowRecurrence.parse("every someday from 6/5/2030 to 7/5/2030"));
+        assertThrows(OptixException.class, () -> ShowRecurrence.parse("every day from 7/5/2030 to 6/5/2030"));
+        assertThrows(OptixException.class, () -> ShowRecurrence.parse("every day from 6/5/2030 to 7/5/2030 except"));
+        assertThrows(OptixException.class, () -> ShowRecurrence.parse("every day from 6/5/2030 to 7/5/2030 except x"));
+    }
+}